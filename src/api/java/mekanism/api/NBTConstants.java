@@ -125,6 +125,8 @@ public final class NBTConstants {
     public static final String MODID = "modID";
     public static final String MODULES = "modules";
     public static final String NAME = "name";
+    public static final String NETWORK_SNAPSHOT = "networkSnapshot";
+    public static final String NETWORK_SNAPSHOT_SIZE = "networkSnapshotSize";
     public static final String NUM_POWERING = "numPowering";
     public static final String ORIGINAL_LOCATION = "originalLocation";
     public static final String OUTPUT_MODE = "outputMode";
@@ -143,7 +145,9 @@ public final class NBTConstants {
     public static final String PUBLIC_FREQUENCY = "publicFreq";
     public static final String PULL = "pull";
     public static final String PULSE = "pulse";
+    public static final String QIO_ITEM_COUNTS = "qioItemCounts";
     public static final String QIO_ITEM_MAP = "qioItemMap";
+    public static final String QIO_ITEM_TYPES = "qioItemTypes";
     public static final String QIO_META_COUNT = "qioMetaCount";
     public static final String QIO_META_TYPES = "qioMetaTypes";
     public static final String RADIATION = "radiation";
@@ -1,5 +1,6 @@
 package mekanism.api.chemical;
 
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Map;
 import java.util.Set;
@@ -7,6 +8,9 @@ import javax.annotation.Nullable;
 import javax.annotation.ParametersAreNonnullByDefault;
 import mcp.MethodsReturnNonnullByDefault;
 import mekanism.api.chemical.attribute.ChemicalAttribute;
+import mekanism.api.chemical.gas.attribute.GasAttributes.CooledCoolant;
+import mekanism.api.chemical.gas.attribute.GasAttributes.HeatedCoolant;
+import mekanism.api.chemical.gas.attribute.GasAttributes.Radiation;
 import mekanism.api.providers.IChemicalProvider;
 import mekanism.api.text.IHasTextComponent;
 import mekanism.api.text.IHasTranslationKey;
@@ -25,6 +29,12 @@ public abstract class Chemical<CHEMICAL extends Chemical<CHEMICAL>> extends Forg
 
     private final ReverseTagWrapper<CHEMICAL> reverseTags;
     private final Map<Class<? extends ChemicalAttribute>, ChemicalAttribute> attributeMap;
+    //Attributes indexed by the id of their type, see ChemicalAttribute#getTypeId
+    private ChemicalAttribute[] attributeLookup = new ChemicalAttribute[0];
+    private double radioactivity;
+    private boolean radioactive;
+    private boolean heatedCoolant;
+    private boolean cooledCoolant;
 
     private final ResourceLocation iconLocation;
     private final boolean hidden;
@@ -35,6 +45,7 @@ public abstract class Chemical<CHEMICAL extends Chemical<CHEMICAL>> extends Forg
     protected Chemical(ChemicalBuilder<CHEMICAL, ?> builder, ChemicalTags<CHEMICAL> chemicalTags) {
         reverseTags = new ReverseTagWrapper<>(getChemical(), chemicalTags::getCollection);
         this.attributeMap = builder.getAttributeMap();
+        attributeMap.values().forEach(this::indexAttribute);
         this.iconLocation = builder.getTexture();
         this.tint = builder.getColor();
         this.hidden = builder.isHidden();
@@ -61,7 +72,7 @@ public abstract class Chemical<CHEMICAL extends Chemical<CHEMICAL>> extends Forg
      * @return if this chemical has the attribute
      */
     public boolean has(Class<? extends ChemicalAttribute> type) {
-        return attributeMap.containsKey(type);
+        return lookup(type) != null;
     }
 
     /**
@@ -74,7 +85,49 @@ public abstract class Chemical<CHEMICAL extends Chemical<CHEMICAL>> extends Forg
     @Nullable
     @SuppressWarnings("unchecked")
     public <T extends ChemicalAttribute> T get(Class<T> type) {
-        return (T) attributeMap.get(type);
+        return (T) lookup(type);
+    }
+
+    @Nullable
+    private ChemicalAttribute lookup(Class<? extends ChemicalAttribute> type) {
+        int id = ChemicalAttribute.getTypeId(type);
+        return id < attributeLookup.length ? attributeLookup[id] : null;
+    }
+
+    /**
+     * Whether this chemical has the {@link Radiation} attribute.
+     *
+     * @return if this chemical is radioactive
+     */
+    public boolean isRadioactive() {
+        return radioactive;
+    }
+
+    /**
+     * Gets the radioactivity of this chemical.
+     *
+     * @return radioactivity, or zero if this chemical is not radioactive
+     */
+    public double getRadioactivity() {
+        return radioactivity;
+    }
+
+    /**
+     * Whether this chemical has the {@link HeatedCoolant} attribute.
+     *
+     * @return if this chemical is a heated coolant
+     */
+    public boolean isHeatedCoolant() {
+        return heatedCoolant;
+    }
+
+    /**
+     * Whether this chemical has the {@link CooledCoolant} attribute.
+     *
+     * @return if this chemical is a cooled coolant
+     */
+    public boolean isCooledCoolant() {
+        return cooledCoolant;
     }
 
     /**
@@ -84,6 +137,23 @@ public abstract class Chemical<CHEMICAL extends Chemical<CHEMICAL>> extends Forg
      */
     public void addAttribute(ChemicalAttribute attribute) {
         attributeMap.put(attribute.getClass(), attribute);
+        indexAttribute(attribute);
+    }
+
+    private void indexAttribute(ChemicalAttribute attribute) {
+        int id = ChemicalAttribute.getTypeId(attribute.getClass());
+        if (id >= attributeLookup.length) {
+            attributeLookup = Arrays.copyOf(attributeLookup, id + 1);
+        }
+        attributeLookup[id] = attribute;
+        if (attribute instanceof Radiation) {
+            radioactive = true;
+            radioactivity = ((Radiation) attribute).getRadioactivity();
+        } else if (attribute instanceof HeatedCoolant) {
+            heatedCoolant = true;
+        } else if (attribute instanceof CooledCoolant) {
+            cooledCoolant = true;
+        }
     }
 
     /**
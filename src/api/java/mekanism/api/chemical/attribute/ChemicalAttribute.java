@@ -1,6 +1,7 @@
 package mekanism.api.chemical.attribute;
 
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 import net.minecraft.util.text.ITextComponent;
 
 /**
@@ -10,6 +11,25 @@ import net.minecraft.util.text.ITextComponent;
  */
 public abstract class ChemicalAttribute {
 
+    private static final AtomicInteger nextTypeId = new AtomicInteger();
+    private static final ClassValue<Integer> typeIds = new ClassValue<Integer>() {
+        @Override
+        protected Integer computeValue(Class<?> type) {
+            return nextTypeId.getAndIncrement();
+        }
+    };
+
+    /**
+     * Gets the dense id assigned to an attribute type, allowing chemicals to look up their attributes by index instead of by hashing the type.
+     *
+     * @param type attribute type
+     *
+     * @return id of the attribute type
+     */
+    public static int getTypeId(Class<? extends ChemicalAttribute> type) {
+        return typeIds.get(type);
+    }
+
     /**
      * If this returns true, chemicals possessing this attribute will not be accepted by any prefab handlers by default unless validated.
      *
@@ -605,6 +605,14 @@ public class MekanismLangProvider extends BaseLanguageProvider {
         add(MekanismLang.COMMAND_RADIATION_GET, "Current radiation (sV/h): %s");
         add(MekanismLang.COMMAND_RADIATION_CLEAR, "Cleared player radiation.");
         add(MekanismLang.COMMAND_RADIATION_REMOVE_ALL, "Removed all radiation sources.");
+        add(MekanismLang.COMMAND_SLEEPING, "%s: %d sleeping, %d active Mekanism tiles");
+        add(MekanismLang.COMMAND_PERF, "Performance tracking: %s");
+        add(MekanismLang.COMMAND_PERF_SECTION, "%s: %s calls, avg %s \u00B5s, p99 %s \u00B5s, max %s \u00B5s");
+        add(MekanismLang.COMMAND_PERF_START, "Started tracking performance.");
+        add(MekanismLang.COMMAND_PERF_STOP, "Stopped tracking performance.");
+        add(MekanismLang.COMMAND_PERF_RESET, "Reset tracked performance data.");
+        add(MekanismLang.COMMAND_PERF_DUMP, "Wrote performance data to %s");
+        add(MekanismLang.COMMAND_PERF_DUMP_FAILED, "Failed to write performance data.");
         //Tooltip stuff
         add(MekanismLang.MODE, "Mode: %s");
         add(MekanismLang.FIRE_MODE, "Fire Mode: %s");
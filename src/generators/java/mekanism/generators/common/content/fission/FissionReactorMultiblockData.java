@@ -10,10 +10,7 @@ import mekanism.api.NBTConstants;
 import mekanism.api.chemical.attribute.ChemicalAttributeValidator;
 import mekanism.api.chemical.gas.GasStack;
 import mekanism.api.chemical.gas.IGasTank;
-import mekanism.api.chemical.gas.attribute.GasAttributes;
 import mekanism.api.chemical.gas.attribute.GasAttributes.CooledCoolant;
-import mekanism.api.chemical.gas.attribute.GasAttributes.HeatedCoolant;
-import mekanism.api.chemical.gas.attribute.GasAttributes.Radiation;
 import mekanism.api.inventory.AutomationType;
 import mekanism.common.Mekanism;
 import mekanism.common.capabilities.chemical.multiblock.MultiblockChemicalTankBuilder;
@@ -101,13 +98,13 @@ public class FissionReactorMultiblockData extends MultiblockData implements IVal
         fluidTanks.add(fluidCoolantTank);
         gasCoolantTank = MultiblockChemicalTankBuilder.GAS.create(this, tile, () -> (long) getVolume() * COOLANT_PER_VOLUME,
               (stack, automationType) -> automationType != AutomationType.EXTERNAL, (stack, automationType) -> isFormed(),
-              gas -> gas.has(CooledCoolant.class) && fluidCoolantTank.isEmpty());
+              gas -> gas.isCooledCoolant() && fluidCoolantTank.isEmpty());
         fuelTank = MultiblockChemicalTankBuilder.GAS.create(this, tile, () -> fuelAssemblies * FUEL_PER_ASSEMBLY,
               (stack, automationType) -> automationType != AutomationType.EXTERNAL, (stack, automationType) -> isFormed(),
               gas -> gas == MekanismGases.FISSILE_FUEL.getChemical(), ChemicalAttributeValidator.ALWAYS_ALLOW, null);
         heatedCoolantTank = MultiblockChemicalTankBuilder.GAS.create(this, tile, () -> getVolume() * HEATED_COOLANT_PER_VOLUME,
               (stack, automationType) -> isFormed(), (stack, automationType) -> automationType != AutomationType.EXTERNAL,
-              gas -> gas == MekanismGases.STEAM.get() || gas.has(HeatedCoolant.class));
+              gas -> gas == MekanismGases.STEAM.get() || gas.isHeatedCoolant());
         wasteTank = MultiblockChemicalTankBuilder.GAS.create(this, tile, () -> fuelAssemblies * FUEL_PER_ASSEMBLY,
               (stack, automationType) -> isFormed(), (stack, automationType) -> automationType != AutomationType.EXTERNAL,
               gas -> gas == MekanismGases.NUCLEAR_WASTE.getChemical(), ChemicalAttributeValidator.ALWAYS_ALLOW, null);
@@ -218,10 +215,8 @@ public class FissionReactorMultiblockData extends MultiblockData implements IVal
         if (MekanismGeneratorsConfig.generators.fissionMeltdownsEnabled.get() && reactorDamage >= MAX_DAMAGE && temp >= MIN_DAMAGE_TEMPERATURE) {
             if (world.rand.nextDouble() < (reactorDamage / MAX_DAMAGE) * MekanismGeneratorsConfig.generators.fissionMeltdownChance.get()) {
                 double radiation = 0;
-                radiation += wasteTank.getStored() * MekanismGases.NUCLEAR_WASTE.get().get(GasAttributes.Radiation.class).getRadioactivity();
-                if (wasteTank.getStack().has(GasAttributes.Radiation.class)) {
-                    radiation += wasteTank.getStored() * wasteTank.getStack().get(GasAttributes.Radiation.class).getRadioactivity();
-                }
+                radiation += wasteTank.getStored() * MekanismGases.NUCLEAR_WASTE.get().getRadioactivity();
+                radiation += wasteTank.getStored() * wasteTank.getType().getRadioactivity();
                 radiation *= MekanismGeneratorsConfig.generators.fissionMeltdownRadiationMultiplier.get();
                 Mekanism.radiationManager.radiate(new Coord4D(getBounds().getCenter(), world), radiation);
                 Mekanism.radiationManager.createMeltdown(world, getMinPos(), getMaxPos(), heatCapacitor.getHeat(), EXPLOSION_CHANCE);
@@ -278,8 +273,7 @@ public class FissionReactorMultiblockData extends MultiblockData implements IVal
             GasStack wasteToAdd = MekanismGases.NUCLEAR_WASTE.getStack(newWaste);
             wasteTank.insert(wasteToAdd, Action.EXECUTE, AutomationType.INTERNAL);
             if (leftoverWaste > 0) {
-                double radioactivity = wasteToAdd.getType().get(GasAttributes.Radiation.class).getRadioactivity();
-                Mekanism.radiationManager.radiate(new Coord4D(getBounds().getCenter(), world), leftoverWaste * radioactivity);
+                Mekanism.radiationManager.radiate(new Coord4D(getBounds().getCenter(), world), leftoverWaste * wasteToAdd.getType().getRadioactivity());
             }
         }
         // update previous burn
@@ -291,13 +285,7 @@ public class FissionReactorMultiblockData extends MultiblockData implements IVal
             List<LivingEntity> entitiesToRadiate = getWorld().getEntitiesWithinAABB(LivingEntity.class, hotZone);
 
             for (LivingEntity entity : entitiesToRadiate) {
-                double wasteRadiation = 0;
-                if (wasteTank.getStored() > 0) {
-                    Radiation r = wasteTank.getType().get(Radiation.class);
-                    if (r != null) {
-                        wasteRadiation = r.getRadioactivity() * wasteTank.getStored() / 3_600F; // divide down to Sv/s
-                    }
-                }
+                double wasteRadiation = wasteTank.getType().getRadioactivity() * wasteTank.getStored() / 3_600F; // divide down to Sv/s
                 Mekanism.radiationManager.radiate(entity, lastBurnRate + wasteRadiation);
             }
         }
@@ -15,18 +15,28 @@ import mekanism.common.inventory.slot.EnergyInventorySlot;
 import mekanism.common.util.MekanismUtils;
 import mekanism.generators.common.config.MekanismGeneratorsConfig;
 import mekanism.generators.common.registries.GeneratorsBlocks;
+import net.minecraft.block.Block;
+import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.World;
 import net.minecraft.world.biome.Biome;
 import net.minecraft.world.biome.Biome.RainType;
+import net.minecraft.world.gen.Heightmap;
 
 public class TileEntitySolarGenerator extends TileEntityGenerator {
 
     private static final FloatingLong RAIN_MULTIPLIER = FloatingLong.createConst(0.2);
+    /**
+     * Maximum number of ticks we go without fully rechecking if we can see the sky, to catch changes below the top block of our column.
+     */
+    private static final int SKY_RECHECK_INTERVAL = 5 * 20;
     private boolean seesSun;
     private boolean needsRainCheck = true;
     private FloatingLong peakOutput = FloatingLong.ZERO;
     private boolean settingsChecked;
     private FloatingLong lastProductionAmount = FloatingLong.ZERO;
+    private boolean cachedCanSeeSky;
+    private int skyCheckHeight = -1;
+    private int skyRecheckCooldown;
 
     private EnergyInventorySlot energySlot;
 
@@ -83,7 +93,7 @@ public class TileEntitySolarGenerator extends TileEntityGenerator {
         // significant penalty.
         World world = getWorld();
         if (world != null) {
-            seesSun = world.isDaytime() && canSeeSky() && world.func_230315_m_().hasSkyLight();
+            seesSun = world.isDaytime() && world.func_230315_m_().hasSkyLight() && canSeeSkyCached(world);
         }
 
         if (seesSun && MekanismUtils.canFunction(this) && !getEnergyContainer().getNeeded().isZero()) {
@@ -96,9 +106,37 @@ public class TileEntitySolarGenerator extends TileEntityGenerator {
         }
     }
 
+    /**
+     * Checks if we can see the sky, only doing the full check when the height of our column changed or enough time has passed since the last check.
+     */
+    private boolean canSeeSkyCached(@Nonnull World world) {
+        BlockPos skyCheckPos = getSkyCheckPos();
+        int height = world.getHeight(Heightmap.Type.WORLD_SURFACE, skyCheckPos.getX(), skyCheckPos.getZ());
+        if (height != skyCheckHeight || --skyRecheckCooldown <= 0) {
+            skyCheckHeight = height;
+            skyRecheckCooldown = SKY_RECHECK_INTERVAL;
+            cachedCanSeeSky = canSeeSky();
+        }
+        return cachedCanSeeSky;
+    }
+
     protected boolean canSeeSky() {
         World world = getWorld();
-        return world != null && world.canBlockSeeSky(getPos());
+        return world != null && world.canBlockSeeSky(getSkyCheckPos());
+    }
+
+    /**
+     * @return The position to check for sky access from.
+     */
+    protected BlockPos getSkyCheckPos() {
+        return getPos();
+    }
+
+    @Override
+    public void onNeighborChange(Block block, BlockPos neighborPos) {
+        super.onNeighborChange(block, neighborPos);
+        //Force a recheck of if we can see the sky the next time we check
+        skyCheckHeight = -1;
     }
 
     public FloatingLong getProduction() {
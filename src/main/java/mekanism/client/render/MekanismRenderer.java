@@ -351,6 +351,7 @@ public class MekanismRenderer {
         RenderDigitalMiner.resetCachedVisuals();
         RenderFluidTank.resetCachedModels();
         RenderFluidTankItem.resetCachedModels();
+        RenderLogisticalTransporter.resetCachedModels();
         RenderMechanicalPipe.onStitch();
         RenderTickHandler.resetCached();
         RenderTeleporter.resetCachedModels();
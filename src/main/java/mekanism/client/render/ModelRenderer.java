@@ -1,19 +1,16 @@
 package mekanism.client.render;
 
-import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
-import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
-import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
-import java.util.Map;
 import mekanism.client.render.MekanismRenderer.Model3D;
 import mekanism.client.render.data.RenderData;
 import mekanism.client.render.data.ValveRenderData;
+import mekanism.client.render.lib.RenderModelCache;
 
 public final class ModelRenderer {
 
     private static final int BLOCK_STAGES = 1_000;
 
-    private static final Map<RenderData, Int2ObjectMap<Model3D>> cachedCenterData = new Object2ObjectOpenHashMap<>();
-    private static final Map<ValveRenderData, Model3D> cachedValveFluids = new Object2ObjectOpenHashMap<>();
+    private static final RenderModelCache<RenderData, Model3D> cachedCenterData = new RenderModelCache<>("Multiblock contents", 10_000);
+    private static final RenderModelCache<ValveRenderData, Model3D> cachedValveFluids = new RenderModelCache<>("Multiblock valves", 1_000);
 
     /**
      * @apiNote If the data is gaseous then scale is ignored
@@ -26,15 +23,11 @@ public final class ModelRenderer {
         } else {
             stage = Math.min(maxStages, (int) (scale * maxStages));
         }
-        Int2ObjectMap<Model3D> cachedCenter;
-        if (cachedCenterData.containsKey(data)) {
-            cachedCenter = cachedCenterData.get(data);
-            if (cachedCenter.containsKey(stage)) {
-                return cachedCenter.get(stage);
-            }
-        } else {
-            cachedCenterData.put(data, cachedCenter = new Int2ObjectOpenHashMap<>());
-        }
+        return cachedCenterData.get(data, stage, ModelRenderer::createModel);
+    }
+
+    private static Model3D createModel(RenderData data, int stage) {
+        int maxStages = data.height * BLOCK_STAGES;
         if (maxStages == 0) {
             maxStages = stage = 1;
         }
@@ -42,7 +35,6 @@ public final class ModelRenderer {
         Model3D model = new Model3D();
         model.setTexture(data.getTexture());
 
-        cachedCenter.put(stage, model);
         model.minX = 0.01;
         model.minY = 0.01;
         model.minZ = 0.01;
@@ -54,13 +46,12 @@ public final class ModelRenderer {
     }
 
     public static Model3D getValveModel(ValveRenderData data) {
-        if (cachedValveFluids.containsKey(data)) {
-            return cachedValveFluids.get(data);
-        }
+        return cachedValveFluids.get(data, (d, stage) -> createValveModel(d));
+    }
 
+    private static Model3D createValveModel(ValveRenderData data) {
         Model3D model = new Model3D();
         MekanismRenderer.prepFlowing(model, data.fluidType);
-        cachedValveFluids.put(data, model);
         switch (data.side) {
             case DOWN:
                 model.minX = 0.3;
@@ -4,7 +4,6 @@ import com.mojang.blaze3d.matrix.MatrixStack;
 import com.mojang.blaze3d.vertex.IVertexBuilder;
 import java.util.ArrayList;
 import java.util.EnumMap;
-import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -21,6 +20,7 @@ import mekanism.client.gui.element.bar.GuiBar;
 import mekanism.client.render.MekanismRenderer.Model3D;
 import mekanism.client.render.lib.Quad;
 import mekanism.client.render.lib.QuadUtils;
+import mekanism.client.render.lib.RenderModelCache;
 import mekanism.client.render.lib.Vertex;
 import mekanism.client.render.lib.effect.BoltRenderer;
 import mekanism.client.render.tileentity.IWireFrameRenderer;
@@ -99,7 +99,7 @@ public class RenderTickHandler {
     public final Minecraft minecraft = Minecraft.getInstance();
 
     private static final ResourceLocation POWER_BAR = MekanismUtils.getResource(ResourceType.GUI_BAR, "horizontal_power_long.png");
-    private static final Map<BlockState, List<Vertex[]>> cachedWireFrames = new HashMap<>();
+    private static final RenderModelCache<BlockState, List<Vertex[]>> cachedWireFrames = new RenderModelCache<>("Wire frames", 256);
     private static final Map<Direction, Map<TransmissionType, Model3D>> cachedOverlays = new EnumMap<>(Direction.class);
     private static final EquipmentSlotType[] EQUIPMENT_ORDER = new EquipmentSlotType[]{EquipmentSlotType.OFFHAND, EquipmentSlotType.MAINHAND,
                                                                                        EquipmentSlotType.HEAD, EquipmentSlotType.CHEST, EquipmentSlotType.LEGS,
@@ -136,6 +136,13 @@ public class RenderTickHandler {
         matrix.pop();
     }
 
+    @SubscribeEvent
+    public void renderDebugText(RenderGameOverlayEvent.Text event) {
+        if (minecraft.gameSettings.showDebugInfo) {
+            RenderModelCache.addDebugInfo(event.getRight());
+        }
+    }
+
     @SubscribeEvent
     public void renderOverlay(RenderGameOverlayEvent.Pre event) {
         if (event.getType() == ElementType.ARMOR) {
@@ -387,7 +394,7 @@ public class RenderTickHandler {
 
     private void renderQuadsWireFrame(BlockState state, IVertexBuilder buffer, Matrix4f matrix, Random rand, float red, float green, float blue,
           float alpha) {
-        List<Vertex[]> allVertices = cachedWireFrames.computeIfAbsent(state, s -> {
+        List<Vertex[]> allVertices = cachedWireFrames.get(state, (s, stage) -> {
             IBakedModel bakedModel = Minecraft.getInstance().getBlockRendererDispatcher().getModelForState(s);
             //TODO: Eventually we may want to add support for Model data
             IModelData modelData = EmptyModelData.INSTANCE;
@@ -1,14 +1,13 @@
 package mekanism.client.render.item.block;
 
 import com.mojang.blaze3d.matrix.MatrixStack;
-import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
-import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
 import javax.annotation.Nonnull;
 import mekanism.client.model.ModelFluidTank;
-import mekanism.client.render.FluidRenderMap;
+import mekanism.client.render.FluidRenderMap.FluidHashStrategy;
 import mekanism.client.render.MekanismRenderer;
 import mekanism.client.render.MekanismRenderer.FluidType;
 import mekanism.client.render.MekanismRenderer.Model3D;
+import mekanism.client.render.lib.RenderModelCache;
 import mekanism.common.item.block.machine.ItemBlockFluidTank;
 import mekanism.common.tier.FluidTankTier;
 import mekanism.common.util.StorageUtils;
@@ -22,7 +21,7 @@ import net.minecraftforge.fluids.FluidStack;
 public class RenderFluidTankItem extends ItemStackTileEntityRenderer {
 
     private static final ModelFluidTank modelFluidTank = new ModelFluidTank();
-    private static final FluidRenderMap<Int2ObjectMap<Model3D>> cachedCenterFluids = new FluidRenderMap<>();
+    private static final RenderModelCache<FluidStack, Model3D> cachedCenterFluids = new RenderModelCache<>("Fluid tank items", 5_000, FluidHashStrategy.INSTANCE);
     private static final int stages = 1_400;
 
     public static void resetCachedModels() {
@@ -60,9 +59,10 @@ public class RenderFluidTankItem extends ItemStackTileEntityRenderer {
     }
 
     private Model3D getFluidModel(@Nonnull FluidStack fluid, int stage) {
-        if (cachedCenterFluids.containsKey(fluid) && cachedCenterFluids.get(fluid).containsKey(stage)) {
-            return cachedCenterFluids.get(fluid).get(stage);
-        }
+        return cachedCenterFluids.get(fluid, stage, RenderFluidTankItem::createFluidModel);
+    }
+
+    private static Model3D createFluidModel(@Nonnull FluidStack fluid, int stage) {
         Model3D model = new Model3D();
         model.setTexture(MekanismRenderer.getFluidTexture(fluid, FluidType.STILL));
         if (fluid.getFluid().getAttributes().getStillTexture(fluid) != null) {
@@ -74,7 +74,6 @@ public class RenderFluidTankItem extends ItemStackTileEntityRenderer {
             model.maxY = 0.0625 + (stage / (float) stages) * 0.875 - .01;
             model.maxZ = 0.875 - .01;
         }
-        cachedCenterFluids.computeIfAbsent(fluid, f -> new Int2ObjectOpenHashMap<>()).put(stage, model);
         return model;
     }
 }
\ No newline at end of file
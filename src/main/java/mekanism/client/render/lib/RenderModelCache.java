@@ -0,0 +1,120 @@
+package mekanism.client.render.lib;
+
+import it.unimi.dsi.fastutil.Hash;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2ObjectLinkedOpenCustomHashMap;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Cache of render models by key and stage that is bounded by the total number of models it holds. Once the bound is exceeded the keys that were least recently
+ * rendered are evicted along with all their stages.
+ *
+ * @apiNote Only use from the render thread.
+ */
+public class RenderModelCache<KEY, MODEL> {
+
+    private static final List<RenderModelCache<?, ?>> CACHES = new ArrayList<>();
+
+    private final Object2ObjectLinkedOpenCustomHashMap<KEY, Int2ObjectMap<MODEL>> cachedModels;
+    private final String name;
+    private final int maxModels;
+    private int modelCount;
+    private long hits;
+    private long misses;
+
+    public RenderModelCache(String name, int maxModels) {
+        this(name, maxModels, EqualsStrategy.INSTANCE);
+    }
+
+    public RenderModelCache(String name, int maxModels, Hash.Strategy<? super KEY> strategy) {
+        this.name = name;
+        this.maxModels = maxModels;
+        this.cachedModels = new Object2ObjectLinkedOpenCustomHashMap<>(strategy);
+        CACHES.add(this);
+    }
+
+    /**
+     * Gets the model for the given key that does not have stages, creating it if it is not cached.
+     */
+    public MODEL get(KEY key, ModelCreator<KEY, MODEL> creator) {
+        return get(key, 0, creator);
+    }
+
+    /**
+     * Gets the model for the given key and stage, creating it if it is not cached.
+     */
+    public MODEL get(KEY key, int stage, ModelCreator<KEY, MODEL> creator) {
+        Int2ObjectMap<MODEL> stages = cachedModels.getAndMoveToLast(key);
+        if (stages == null) {
+            stages = new Int2ObjectOpenHashMap<>();
+            cachedModels.putAndMoveToLast(key, stages);
+        }
+        MODEL model = stages.get(stage);
+        if (model == null) {
+            misses++;
+            model = creator.create(key, stage);
+            stages.put(stage, model);
+            modelCount++;
+            //Evict the least recently used keys, but never the one we are currently rendering
+            while (modelCount > maxModels && cachedModels.size() > 1) {
+                modelCount -= cachedModels.removeFirst().size();
+            }
+        } else {
+            hits++;
+        }
+        return model;
+    }
+
+    public void clear() {
+        cachedModels.clear();
+        modelCount = 0;
+        hits = 0;
+        misses = 0;
+    }
+
+    private String getDebugInfo() {
+        long lookups = hits + misses;
+        return String.format("%s: %d/%d models, %d keys, %.1f%% hits", name, modelCount, maxModels, cachedModels.size(), lookups == 0 ? 0 : 100D * hits / lookups);
+    }
+
+    /**
+     * Adds the state of all the render model caches to the given debug overlay lines.
+     */
+    public static void addDebugInfo(List<String> lines) {
+        int totalModels = 0;
+        for (RenderModelCache<?, ?> cache : CACHES) {
+            totalModels += cache.modelCount;
+        }
+        lines.add("");
+        lines.add("Mekanism render models: " + totalModels);
+        for (RenderModelCache<?, ?> cache : CACHES) {
+            if (cache.modelCount > 0) {
+                lines.add(cache.getDebugInfo());
+            }
+        }
+    }
+
+    @FunctionalInterface
+    public interface ModelCreator<KEY, MODEL> {
+
+        MODEL create(KEY key, int stage);
+    }
+
+    private static class EqualsStrategy implements Hash.Strategy<Object> {
+
+        private static final EqualsStrategy INSTANCE = new EqualsStrategy();
+
+        @Override
+        public int hashCode(Object o) {
+            return Objects.hashCode(o);
+        }
+
+        @Override
+        public boolean equals(Object a, Object b) {
+            return Objects.equals(a, b);
+        }
+    }
+}
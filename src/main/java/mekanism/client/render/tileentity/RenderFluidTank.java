@@ -2,14 +2,13 @@ package mekanism.client.render.tileentity;
 
 import com.mojang.blaze3d.matrix.MatrixStack;
 import com.mojang.blaze3d.vertex.IVertexBuilder;
-import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
-import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
 import javax.annotation.Nonnull;
 import javax.annotation.ParametersAreNonnullByDefault;
-import mekanism.client.render.FluidRenderMap;
+import mekanism.client.render.FluidRenderMap.FluidHashStrategy;
 import mekanism.client.render.MekanismRenderer;
 import mekanism.client.render.MekanismRenderer.FluidType;
 import mekanism.client.render.MekanismRenderer.Model3D;
+import mekanism.client.render.lib.RenderModelCache;
 import mekanism.common.base.ProfilerConstants;
 import mekanism.common.tile.TileEntityFluidTank;
 import net.minecraft.client.renderer.Atlases;
@@ -21,8 +20,8 @@ import net.minecraftforge.fluids.FluidStack;
 @ParametersAreNonnullByDefault
 public class RenderFluidTank extends MekanismTileEntityRenderer<TileEntityFluidTank> {
 
-    private static final FluidRenderMap<Int2ObjectMap<Model3D>> cachedCenterFluids = new FluidRenderMap<>();
-    private static final FluidRenderMap<Int2ObjectMap<Model3D>> cachedValveFluids = new FluidRenderMap<>();
+    private static final RenderModelCache<FluidStack, Model3D> cachedCenterFluids = new RenderModelCache<>("Fluid tank contents", 5_000, FluidHashStrategy.INSTANCE);
+    private static final RenderModelCache<FluidStack, Model3D> cachedValveFluids = new RenderModelCache<>("Fluid tank valves", 5_000, FluidHashStrategy.INSTANCE);
 
     private static final int stages = 1_400;
 
@@ -66,9 +65,10 @@ public class RenderFluidTank extends MekanismTileEntityRenderer<TileEntityFluidT
     }
 
     private Model3D getValveModel(@Nonnull FluidStack fluid, int stage) {
-        if (cachedValveFluids.containsKey(fluid) && cachedValveFluids.get(fluid).containsKey(stage)) {
-            return cachedValveFluids.get(fluid).get(stage);
-        }
+        return cachedValveFluids.get(fluid, stage, RenderFluidTank::createValveModel);
+    }
+
+    private static Model3D createValveModel(@Nonnull FluidStack fluid, int stage) {
         Model3D model = new Model3D();
         MekanismRenderer.prepFlowing(model, fluid);
         if (fluid.getFluid().getAttributes().getStillTexture(fluid) != null) {
@@ -80,14 +80,14 @@ public class RenderFluidTank extends MekanismTileEntityRenderer<TileEntityFluidT
             model.maxY = 0.9375 - .01;
             model.maxZ = 0.6875 - .01;
         }
-        cachedValveFluids.computeIfAbsent(fluid, f -> new Int2ObjectOpenHashMap<>()).put(stage, model);
         return model;
     }
 
     private Model3D getFluidModel(@Nonnull FluidStack fluid, int stage) {
-        if (cachedCenterFluids.containsKey(fluid) && cachedCenterFluids.get(fluid).containsKey(stage)) {
-            return cachedCenterFluids.get(fluid).get(stage);
-        }
+        return cachedCenterFluids.get(fluid, stage, RenderFluidTank::createFluidModel);
+    }
+
+    private static Model3D createFluidModel(@Nonnull FluidStack fluid, int stage) {
         Model3D model = new Model3D();
         model.setTexture(MekanismRenderer.getFluidTexture(fluid, FluidType.STILL));
         if (fluid.getFluid().getAttributes().getStillTexture(fluid) != null) {
@@ -99,7 +99,6 @@ public class RenderFluidTank extends MekanismTileEntityRenderer<TileEntityFluidT
             model.maxY = 0.0625 + ((float) stage / (float) stages) * 0.875 - .01;
             model.maxZ = 0.875 - .01;
         }
-        cachedCenterFluids.computeIfAbsent(fluid, f -> new Int2ObjectOpenHashMap<>()).put(stage, model);
         return model;
     }
 }
\ No newline at end of file
@@ -1,10 +1,12 @@
 package mekanism.client.render.transmitter;
 
 import com.mojang.blaze3d.matrix.MatrixStack;
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
 import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.EnumMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import javax.annotation.Nullable;
@@ -19,19 +21,22 @@ import mekanism.common.content.network.transmitter.DiversionTransporter.Diversio
 import mekanism.common.content.network.transmitter.LogisticalTransporterBase;
 import mekanism.common.content.transporter.TransporterStack;
 import mekanism.common.item.ItemConfigurator;
-import mekanism.common.lib.inventory.HashedItem;
 import mekanism.common.tile.transmitter.TileEntityLogisticalTransporterBase;
+import mekanism.common.util.InventoryUtils;
 import mekanism.common.util.MekanismUtils;
 import mekanism.common.util.TransporterUtils;
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.renderer.Atlases;
 import net.minecraft.client.renderer.IRenderTypeBuffer;
-import net.minecraft.client.renderer.entity.EntityRenderer;
+import net.minecraft.client.renderer.ItemRenderer;
+import net.minecraft.client.renderer.model.IBakedModel;
+import net.minecraft.client.renderer.model.ItemCameraTransforms.TransformType;
+import net.minecraft.client.renderer.model.ItemOverrideList;
 import net.minecraft.client.renderer.texture.AtlasTexture;
+import net.minecraft.client.renderer.texture.OverlayTexture;
 import net.minecraft.client.renderer.texture.TextureAtlasSprite;
 import net.minecraft.client.renderer.tileentity.TileEntityRendererDispatcher;
-import net.minecraft.entity.EntityType;
-import net.minecraft.entity.item.ItemEntity;
+import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
 import net.minecraft.profiler.IProfiler;
 import net.minecraft.util.Direction;
@@ -39,21 +44,28 @@ import net.minecraft.util.ResourceLocation;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.BlockRayTraceResult;
 import net.minecraft.util.math.RayTraceResult.Type;
+import net.minecraft.world.World;
 
 @ParametersAreNonnullByDefault
 public class RenderLogisticalTransporter extends RenderTransmitterBase<TileEntityLogisticalTransporterBase> {
 
     private static final Map<Direction, Map<DiversionControl, Model3D>> cachedOverlays = new EnumMap<>(Direction.class);
+    /**
+     * Baked models of items without NBT whose models do not have any overrides, and thus do not depend on the stack or world.
+     */
+    private static final Map<Item, IBakedModel> cachedItemModels = new Object2ObjectOpenHashMap<>();
+    private static final float ITEM_HOVER_OFFSET = 0.1F;
     private static TextureAtlasSprite gunpowderIcon;
     private static TextureAtlasSprite torchOffIcon;
     private static TextureAtlasSprite torchOnIcon;
     private final ModelTransporterBox modelBox = new ModelTransporterBox();
-    private final ItemEntity entityItem = new ItemEntity(EntityType.ITEM, null);
-    private final EntityRenderer<? super ItemEntity> renderer = Minecraft.getInstance().getRenderManager().getRenderer(entityItem);
+    private final ItemRenderer itemRenderer = Minecraft.getInstance().getItemRenderer();
+    //Reused between renders to avoid allocating new collections for every transporter each frame
+    private final List<TransporterStack> reducedTransit = new ArrayList<>();
+    private final Set<TransportInformation> transportInformation = new ObjectOpenHashSet<>();
 
     public RenderLogisticalTransporter(TileEntityRendererDispatcher renderer) {
         super(renderer);
-        entityItem.setNoDespawn();
     }
 
     public static void onStitch(AtlasTexture map) {
@@ -63,6 +75,10 @@ public class RenderLogisticalTransporter extends RenderTransmitterBase<TileEntit
         torchOnIcon = map.getSprite(new ResourceLocation("minecraft", "block/redstone_torch"));
     }
 
+    public static void resetCachedModels() {
+        cachedItemModels.clear();
+    }
+
     @Override
     protected void render(TileEntityLogisticalTransporterBase tile, float partialTick, MatrixStack matrix, IRenderTypeBuffer renderer, int light, int overlayLight,
           IProfiler profiler) {
@@ -71,23 +87,22 @@ public class RenderLogisticalTransporter extends RenderTransmitterBase<TileEntit
         BlockPos pos = tile.getPos();
         if (!inTransit.isEmpty()) {
             matrix.push();
-            entityItem.setPosition(pos.getX() + 0.5, pos.getY() + 0.5, pos.getZ() + 0.5);
-            entityItem.world = tile.getWorld();
-
             float partial = partialTick * transporter.tier.getSpeed();
-            Collection<TransporterStack> reducedTransit = getReducedTransit(inTransit);
-            for (TransporterStack stack : reducedTransit) {
-                entityItem.setItem(stack.itemStack);
+            for (TransporterStack stack : getReducedTransit(inTransit)) {
+                IBakedModel model = getItemModel(stack.itemStack, tile.getWorld());
                 float[] stackPos = TransporterUtils.getStackPosition(transporter, stack, partial);
                 matrix.push();
                 matrix.translate(stackPos[0], stackPos[1], stackPos[2]);
                 matrix.scale(0.75F, 0.75F, 0.75F);
-                this.renderer.render(entityItem, 0, 0, matrix, renderer, MekanismRenderer.FULL_LIGHT);
+                //Offset the same way the item entity renderer does for items on the ground
+                matrix.translate(0, ITEM_HOVER_OFFSET + 0.25F * model.getItemCameraTransforms().getTransform(TransformType.GROUND).scale.getY(), 0);
+                itemRenderer.renderItem(stack.itemStack, TransformType.GROUND, false, matrix, renderer, MekanismRenderer.FULL_LIGHT, OverlayTexture.NO_OVERLAY, model);
                 matrix.pop();
                 if (stack.color != null) {
                     modelBox.render(matrix, renderer, MekanismRenderer.FULL_LIGHT, overlayLight, stackPos[0], stackPos[1], stackPos[2], stack.color);
                 }
             }
+            reducedTransit.clear();
             matrix.pop();
         }
         if (transporter instanceof DiversionTransporter) {
@@ -115,19 +130,32 @@ public class RenderLogisticalTransporter extends RenderTransmitterBase<TileEntit
     /**
      * Shrink the in transit list as much as possible. Don't try to render things of the same type that are in the same spot with the same color, ignoring stack size
      */
-    private Collection<TransporterStack> getReducedTransit(Collection<TransporterStack> inTransit) {
-        Collection<TransporterStack> reducedTransit = new ArrayList<>();
-        Set<TransportInformation> information = new ObjectOpenHashSet<>();
+    private List<TransporterStack> getReducedTransit(Collection<TransporterStack> inTransit) {
         for (TransporterStack stack : inTransit) {
-            if (stack != null && !stack.itemStack.isEmpty() && information.add(new TransportInformation(stack))) {
+            if (stack != null && !stack.itemStack.isEmpty() && transportInformation.add(new TransportInformation(stack))) {
                 //Ensure the stack is valid AND we did not already have information matching the stack
                 //We use add to check if it already contained the value, so that we only have to query the set once
                 reducedTransit.add(stack);
             }
         }
+        transportInformation.clear();
         return reducedTransit;
     }
 
+    private IBakedModel getItemModel(ItemStack stack, @Nullable World world) {
+        if (stack.hasTag()) {
+            return itemRenderer.getItemModelWithOverrides(stack, world, null);
+        }
+        IBakedModel model = cachedItemModels.get(stack.getItem());
+        if (model == null) {
+            model = itemRenderer.getItemModelWithOverrides(stack, world, null);
+            if (model.getOverrides() == ItemOverrideList.EMPTY) {
+                cachedItemModels.put(stack.getItem(), model);
+            }
+        }
+        return model;
+    }
+
     private Model3D getOverlayModel(Direction side, DiversionControl mode) {
         if (cachedOverlays.containsKey(side) && cachedOverlays.get(side).containsKey(mode)) {
             return cachedOverlays.get(side).get(mode);
@@ -212,26 +240,36 @@ public class RenderLogisticalTransporter extends RenderTransmitterBase<TileEntit
 
         @Nullable
         private final EnumColor color;
-        private final HashedItem item;
+        //Not copied as the information only lives for the duration of a single render
+        private final ItemStack item;
         private final int progress;
+        private final int hashCode;
 
         private TransportInformation(TransporterStack transporterStack) {
             this.progress = transporterStack.progress;
             this.color = transporterStack.color;
-            this.item = new HashedItem(transporterStack.itemStack);
+            this.item = transporterStack.itemStack;
+            this.hashCode = initHashCode();
         }
 
-        @Override
-        public int hashCode() {
+        private int initHashCode() {
             int code = 1;
             code = 31 * code + progress;
-            code = 31 * code + item.hashCode();
+            code = 31 * code + item.getItem().hashCode();
+            if (item.hasTag()) {
+                code = 31 * code + item.getTag().hashCode();
+            }
             if (color != null) {
                 code = 31 * code + color.hashCode();
             }
             return code;
         }
 
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+
         @Override
         public boolean equals(Object obj) {
             if (obj == this) {
@@ -239,7 +277,7 @@ public class RenderLogisticalTransporter extends RenderTransmitterBase<TileEntit
             }
             if (obj instanceof TransportInformation) {
                 TransportInformation other = (TransportInformation) obj;
-                return progress == other.progress && color == other.color && item.equals(other.item);
+                return progress == other.progress && color == other.color && InventoryUtils.areItemsStackable(item, other.item);
             }
             return false;
         }
@@ -5,9 +5,6 @@ import com.mojang.blaze3d.vertex.IVertexBuilder;
 import it.unimi.dsi.fastutil.ints.Int2ObjectArrayMap;
 import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
 import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Locale;
 import javax.annotation.Nullable;
 import javax.annotation.ParametersAreNonnullByDefault;
 import mekanism.client.render.FluidRenderMap;
@@ -61,7 +58,7 @@ public class RenderMechanicalPipe extends RenderTransmitterBase<TileEntityMechan
                 }
                 int glow = MekanismRenderer.calculateGlowLight(light, fluidStack);
                 int color = MekanismRenderer.getColorARGB(fluidStack, fluidScale);
-                List<String> connectionContents = new ArrayList<>();
+                int connectionContents = 0;
                 Model3D model = getModel(null, fluidStack, stage);
                 IVertexBuilder buffer = renderer.getBuffer(Atlases.getTranslucentCullBlockType());
                 for (Direction side : EnumUtils.DIRECTIONS) {
@@ -69,14 +66,14 @@ public class RenderMechanicalPipe extends RenderTransmitterBase<TileEntityMechan
                     if (connectionType == ConnectionType.NORMAL) {
                         MekanismRenderer.renderObject(getModel(side, fluidStack, stage), matrix, buffer, color, glow, overlayLight);
                     } else if (connectionType != ConnectionType.NONE) {
-                        connectionContents.add(side.getString() + connectionType.getString().toUpperCase(Locale.ROOT));
+                        connectionContents |= getVisibleSide(side, connectionType);
                     }
                     if (model != null) {
                         model.setSideRender(side, connectionType == ConnectionType.NONE);
                     }
                 }
                 MekanismRenderer.renderObject(model, matrix, buffer, MekanismRenderer.getColorARGB(fluidStack, fluidScale), glow, overlayLight);
-                if (!connectionContents.isEmpty()) {
+                if (connectionContents != 0) {
                     matrix.push();
                     matrix.translate(0.5, 0.5, 0.5);
                     renderModel(tile, matrix, buffer, MekanismRenderer.getRed(color), MekanismRenderer.getGreen(color), MekanismRenderer.getBlue(color),
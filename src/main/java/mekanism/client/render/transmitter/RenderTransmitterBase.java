@@ -3,13 +3,13 @@ package mekanism.client.render.transmitter;
 import com.mojang.blaze3d.matrix.MatrixStack;
 import com.mojang.blaze3d.matrix.MatrixStack.Entry;
 import com.mojang.blaze3d.vertex.IVertexBuilder;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
-import java.util.Arrays;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
-import java.util.Objects;
-import java.util.stream.Collectors;
 import javax.annotation.ParametersAreNonnullByDefault;
 import mekanism.client.render.MekanismRenderer;
 import mekanism.client.render.lib.Quad;
@@ -19,6 +19,7 @@ import mekanism.client.render.obj.ContentsModelConfiguration;
 import mekanism.client.render.obj.VisibleModelConfiguration;
 import mekanism.client.render.tileentity.MekanismTileEntityRenderer;
 import mekanism.common.config.MekanismConfig;
+import mekanism.common.lib.transmitter.ConnectionType;
 import mekanism.common.tile.transmitter.TileEntityTransmitter;
 import mekanism.common.util.EnumUtils;
 import mekanism.common.util.MekanismUtils;
@@ -29,6 +30,7 @@ import net.minecraft.client.renderer.model.ItemOverrideList;
 import net.minecraft.client.renderer.model.ModelRotation;
 import net.minecraft.client.renderer.texture.TextureAtlasSprite;
 import net.minecraft.client.renderer.tileentity.TileEntityRendererDispatcher;
+import net.minecraft.util.Direction;
 import net.minecraft.util.ResourceLocation;
 import net.minecraft.world.World;
 import net.minecraftforge.client.model.IModelConfiguration;
@@ -40,16 +42,44 @@ public abstract class RenderTransmitterBase<TRANSMITTER extends TileEntityTransm
 
     public static final ResourceLocation MODEL_LOCATION = MekanismUtils.getResource(ResourceType.MODEL, "transmitter_contents.obj");
     private static final IModelConfiguration contentsConfiguration = new ContentsModelConfiguration();
-    private static final Map<ContentsModelData, List<BakedQuad>> contentModelCache = new Object2ObjectOpenHashMap<>();
+    /**
+     * Number of bits used per side in a visible sides key, enough to store the connection type's ordinal offset by one so that zero can represent a hidden side.
+     */
+    private static final int BITS_PER_SIDE = 3;
+    private static final ConnectionType[] CONNECTION_TYPES = ConnectionType.values();
+    /**
+     * Baked contents quads by icon and by visible sides key, so that rendering a transmitter does not have to build any lookup objects.
+     */
+    private static final Map<TextureAtlasSprite, Int2ObjectMap<List<BakedQuad>>> contentModelCache = new Object2ObjectOpenHashMap<>();
 
     public static void onStitch() {
         contentModelCache.clear();
     }
 
-    private static List<BakedQuad> getBakedQuads(List<String> visible, TextureAtlasSprite icon, World world) {
-        return contentModelCache.computeIfAbsent(new ContentsModelData(visible, icon), modelData -> {
-            List<BakedQuad> bakedQuads = MekanismRenderer.contentsModel.bake(new VisibleModelConfiguration(contentsConfiguration, modelData.visible),
-                  ModelLoader.instance(), material -> modelData.icon, ModelRotation.X0_Y0, ItemOverrideList.EMPTY, MODEL_LOCATION
+    /**
+     * Gets the part of a visible sides key that represents the given side being visible with the given connection type.
+     */
+    protected static int getVisibleSide(Direction side, ConnectionType connectionType) {
+        return (connectionType.ordinal() + 1) << (side.ordinal() * BITS_PER_SIDE);
+    }
+
+    private static List<String> getVisibleGroups(int visibleSides) {
+        List<String> visible = new ArrayList<>();
+        for (Direction side : EnumUtils.DIRECTIONS) {
+            int connectionType = (visibleSides >> (side.ordinal() * BITS_PER_SIDE)) & ((1 << BITS_PER_SIDE) - 1);
+            if (connectionType > 0) {
+                visible.add(side.getString() + CONNECTION_TYPES[connectionType - 1].getString().toUpperCase(Locale.ROOT));
+            }
+        }
+        return visible;
+    }
+
+    private static List<BakedQuad> getBakedQuads(int visibleSides, TextureAtlasSprite icon, World world) {
+        Int2ObjectMap<List<BakedQuad>> iconModels = contentModelCache.computeIfAbsent(icon, i -> new Int2ObjectOpenHashMap<>());
+        List<BakedQuad> quads = iconModels.get(visibleSides);
+        if (quads == null) {
+            List<BakedQuad> bakedQuads = MekanismRenderer.contentsModel.bake(new VisibleModelConfiguration(contentsConfiguration, getVisibleGroups(visibleSides)),
+                  ModelLoader.instance(), material -> icon, ModelRotation.X0_Y0, ItemOverrideList.EMPTY, MODEL_LOCATION
             ).getQuads(null, null, world.getRandom(), EmptyModelData.INSTANCE);
             //TODO: Try to improve this/do it better. It is close enough for now given it fixes render order issues, but could be improved further
             List<Quad> unpackedQuads = QuadUtils.unpack(bakedQuads);
@@ -59,8 +89,10 @@ public abstract class RenderTransmitterBase<TRANSMITTER extends TileEntityTransm
                     vertex.normal(vertex.getNormal().add(2.5, 2.5, 2.5).normalize());
                 }
             }
-            return QuadUtils.bake(unpackedQuads);
-        });
+            quads = QuadUtils.bake(unpackedQuads);
+            iconModels.put(visibleSides, quads);
+        }
+        return quads;
     }
 
     protected RenderTransmitterBase(TileEntityRendererDispatcher renderer) {
@@ -70,17 +102,26 @@ public abstract class RenderTransmitterBase<TRANSMITTER extends TileEntityTransm
     protected void renderModel(TRANSMITTER transmitter, MatrixStack matrix, IVertexBuilder builder, int rgb, float alpha, int light, int overlayLight,
           TextureAtlasSprite icon) {
         renderModel(transmitter, matrix, builder, MekanismRenderer.getRed(rgb), MekanismRenderer.getGreen(rgb), MekanismRenderer.getBlue(rgb), alpha, light,
-              overlayLight, icon, Arrays.stream(EnumUtils.DIRECTIONS)
-                    .map(side -> side.getString() + transmitter.getTransmitter().getConnectionType(side).getString().toUpperCase(Locale.ROOT))
-                    .collect(Collectors.toList()));
+              overlayLight, icon, getAllVisibleSides(transmitter));
     }
 
+    private int getAllVisibleSides(TRANSMITTER transmitter) {
+        int visibleSides = 0;
+        for (Direction side : EnumUtils.DIRECTIONS) {
+            visibleSides |= getVisibleSide(side, transmitter.getTransmitter().getConnectionType(side));
+        }
+        return visibleSides;
+    }
+
+    /**
+     * @param visibleSides Key of the sides to render, built from {@link #getVisibleSide(Direction, ConnectionType)}.
+     */
     protected void renderModel(TRANSMITTER transmitter, MatrixStack matrix, IVertexBuilder builder, float red, float green, float blue, float alpha, int light,
-          int overlayLight, TextureAtlasSprite icon, List<String> visible) {
-        if (!visible.isEmpty()) {
+          int overlayLight, TextureAtlasSprite icon, int visibleSides) {
+        if (visibleSides != 0) {
             Entry entry = matrix.getLast();
             //Get all the sides
-            for (BakedQuad quad : getBakedQuads(visible, icon, transmitter.getWorld())) {
+            for (BakedQuad quad : getBakedQuads(visibleSides, icon, transmitter.getWorld())) {
                 builder.addVertexData(entry, quad, red, green, blue, alpha, light, overlayLight);
             }
         }
@@ -92,32 +133,4 @@ public abstract class RenderTransmitterBase<TRANSMITTER extends TileEntityTransm
             super.render(transmitter, partialTick, matrix, renderer, light, overlayLight);
         }
     }
-
-    private static class ContentsModelData {
-
-        private final List<String> visible;
-        private final TextureAtlasSprite icon;
-
-        private ContentsModelData(List<String> visible, TextureAtlasSprite icon) {
-            this.visible = visible;
-            this.icon = icon;
-        }
-
-        @Override
-        public int hashCode() {
-            return Objects.hash(visible, icon);
-        }
-
-        @Override
-        public boolean equals(Object o) {
-            if (this == o) {
-                return true;
-            }
-            if (o instanceof ContentsModelData) {
-                ContentsModelData other = (ContentsModelData) o;
-                return visible.equals(other.visible) && icon.equals(other.icon);
-            }
-            return false;
-        }
-    }
-}
\ No newline at end of file
+}
@@ -48,6 +48,7 @@ import mekanism.common.content.transporter.PathfinderCache;
 import mekanism.common.content.transporter.TransporterManager;
 import mekanism.common.entity.EntityRobit;
 import mekanism.common.integration.MekanismHooks;
+import mekanism.common.integration.energy.EnergyCompatUtils;
 import mekanism.common.inventory.container.sync.dynamic.SyncMapper;
 import mekanism.common.lib.Version;
 import mekanism.common.lib.frequency.FrequencyManager;
@@ -76,6 +77,7 @@ import mekanism.common.registries.MekanismSlurries;
 import mekanism.common.registries.MekanismSounds;
 import mekanism.common.registries.MekanismTileEntityTypes;
 import mekanism.common.tags.MekanismTagManager;
+import mekanism.common.tile.machine.TileEntityOredictionificator;
 import mekanism.common.world.GenHandler;
 import net.minecraft.entity.ai.attributes.GlobalEntityTypeAttributes;
 import net.minecraft.item.crafting.IRecipeSerializer;
@@ -187,6 +189,8 @@ public class Mekanism {
         MinecraftForge.EVENT_BUS.addListener(this::onChunkDataLoad);
         MinecraftForge.EVENT_BUS.addListener(this::onWorldLoad);
         MinecraftForge.EVENT_BUS.addListener(this::onWorldUnload);
+        MinecraftForge.EVENT_BUS.addListener(EnergyCompatUtils::onChunkUnload);
+        MinecraftForge.EVENT_BUS.addListener(EnergyCompatUtils::onWorldUnload);
         MinecraftForge.EVENT_BUS.addListener(this::registerCommands);
         MinecraftForge.EVENT_BUS.addListener(this::serverStopped);
         MinecraftForge.EVENT_BUS.addListener(this::addReloadListeners);
@@ -272,6 +276,7 @@ public class Mekanism {
 
     private void onTagsReload(TagsUpdatedEvent event) {
         TagCache.resetTagCaches();
+        TileEntityOredictionificator.resetValidNames();
     }
 
     private void addReloadListeners(AddReloadListenerEvent event) {
@@ -380,15 +385,15 @@ public class Mekanism {
     }
 
     private void onEnergyTransferred(EnergyTransferEvent event) {
-        packetHandler.sendToReceivers(new PacketTransmitterUpdate(event.network), event.network);
+        packetHandler.queueTransmitterUpdate(new PacketTransmitterUpdate(event.network), event.network);
     }
 
     private void onChemicalTransferred(ChemicalTransferEvent event) {
-        packetHandler.sendToReceivers(new PacketTransmitterUpdate(event.network, event.transferType), event.network);
+        packetHandler.queueTransmitterUpdate(new PacketTransmitterUpdate(event.network, event.transferType), event.network);
     }
 
     private void onLiquidTransferred(FluidTransferEvent event) {
-        packetHandler.sendToReceivers(new PacketTransmitterUpdate(event.network, event.fluidType), event.network);
+        packetHandler.queueTransmitterUpdate(new PacketTransmitterUpdate(event.network, event.fluidType), event.network);
     }
 
     private void chunkSave(ChunkDataEvent.Save event) {
@@ -134,6 +134,14 @@ public enum MekanismLang implements ILangEntry {
     COMMAND_RADIATION_GET("command", "radiation.get"),
     COMMAND_RADIATION_CLEAR("command", "radiation.clear"),
     COMMAND_RADIATION_REMOVE_ALL("command", "radiation.remove_all"),
+    COMMAND_SLEEPING("command", "sleeping"),
+    COMMAND_PERF("command", "perf"),
+    COMMAND_PERF_SECTION("command", "perf.section"),
+    COMMAND_PERF_START("command", "perf.start"),
+    COMMAND_PERF_STOP("command", "perf.stop"),
+    COMMAND_PERF_RESET("command", "perf.reset"),
+    COMMAND_PERF_DUMP("command", "perf.dump"),
+    COMMAND_PERF_DUMP_FAILED("command", "perf.dump_failed"),
     //Transmission types
     TRANSMISSION_TYPE_ENERGY("transmission", "energy"),
     TRANSMISSION_TYPE_FLUID("transmission", "fluids"),
@@ -7,6 +7,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 import mekanism.api.chemical.ChemicalStack;
 import mekanism.common.block.BlockBounding;
@@ -28,10 +29,39 @@ public final class TagCache {
     private static final Map<String, List<ItemStack>> blockTagStacks = new Object2ObjectOpenHashMap<>();
     private static final Map<String, List<ItemStack>> itemTagStacks = new Object2ObjectOpenHashMap<>();
     private static final Map<String, List<ItemStack>> modIDStacks = new Object2ObjectOpenHashMap<>();
+    //Memoized results of matching tag filters against items and blocks. These can be queried from both the client and server thread in single player
+    // (for example by slot validators), so they need to be thread safe
+    private static final Map<String, Map<Item, Boolean>> itemTagMatches = new ConcurrentHashMap<>();
+    private static final Map<String, Map<Block, Boolean>> blockTagMatches = new ConcurrentHashMap<>();
 
     public static void resetTagCaches() {
         blockTagStacks.clear();
         itemTagStacks.clear();
+        itemTagMatches.clear();
+        blockTagMatches.clear();
+    }
+
+    /**
+     * Checks if any of the given item's tags match the given tag filter, which may contain wildcards. Results are cached until tags are reloaded.
+     */
+    public static boolean matchesItemTag(String tagName, Item item) {
+        return itemTagMatches.computeIfAbsent(tagName, name -> new ConcurrentHashMap<>()).computeIfAbsent(item, i -> matchesAny(tagName, i.getTags()));
+    }
+
+    /**
+     * Checks if any of the given block's tags match the given tag filter, which may contain wildcards. Results are cached until tags are reloaded.
+     */
+    public static boolean matchesBlockTag(String tagName, Block block) {
+        return blockTagMatches.computeIfAbsent(tagName, name -> new ConcurrentHashMap<>()).computeIfAbsent(block, b -> matchesAny(tagName, b.getTags()));
+    }
+
+    private static boolean matchesAny(String tagName, Set<ResourceLocation> tags) {
+        for (ResourceLocation tag : tags) {
+            if (WildcardMatcher.matches(tagName, tag.toString())) {
+                return true;
+            }
+        }
+        return false;
     }
 
     public static List<String> getItemTags(ItemStack check) {
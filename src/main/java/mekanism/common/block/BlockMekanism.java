@@ -9,7 +9,6 @@ import mekanism.api.DataHandlerUtils;
 import mekanism.api.NBTConstants;
 import mekanism.api.chemical.ChemicalTankBuilder;
 import mekanism.api.chemical.gas.IGasTank;
-import mekanism.api.chemical.gas.attribute.GasAttributes;
 import mekanism.common.Mekanism;
 import mekanism.common.block.attribute.Attribute;
 import mekanism.common.block.attribute.AttributeGui;
@@ -153,7 +152,7 @@ public abstract class BlockMekanism extends Block {
                             DataHandlerUtils.readContainers(tanks, gasTankList);
                             boolean hasRadioactive = false;
                             for (IGasTank tank : tanks) {
-                                if (!tank.isEmpty() && tank.getStack().has(GasAttributes.Radiation.class)) {
+                                if (!tank.isEmpty() && tank.getType().isRadioactive()) {
                                     //If the tank isn't empty and has a radioactive gas in it, clear the tank and mark we need to update the item
                                     hasRadioactive = true;
                                     tank.setEmpty();
@@ -0,0 +1,125 @@
+package mekanism.common.capabilities;
+
+import it.unimi.dsi.fastutil.objects.Reference2ObjectArrayMap;
+import java.util.EnumMap;
+import java.util.Map;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import mcp.MethodsReturnNonnullByDefault;
+import mekanism.common.util.CapabilityUtils;
+import mekanism.common.util.MekanismUtils;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.Direction;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import net.minecraftforge.common.capabilities.Capability;
+import net.minecraftforge.common.util.LazyOptional;
+
+/**
+ * Cache of the neighboring tiles of a tile and the capabilities they expose towards it, keyed by side and capability. Present capabilities stay cached until they
+ * get invalidated, and everything cached for a side gets dropped when the neighbor on that side changes, so that repeat lookups don't have to find the neighboring
+ * tile and query it again.
+ */
+@ParametersAreNonnullByDefault
+@MethodsReturnNonnullByDefault
+public class NeighborCapabilityCache {
+
+    private final Map<Direction, NeighborInfo> neighbors = new EnumMap<>(Direction.class);
+    private final TileEntity tile;
+
+    public NeighborCapabilityCache(TileEntity tile) {
+        this.tile = tile;
+    }
+
+    /**
+     * @param side Side of our tile the neighbor is on.
+     *
+     * @return The neighboring tile, or {@code null} if there is none or the position is not loaded.
+     */
+    @Nullable
+    public TileEntity getNeighbor(Direction side) {
+        NeighborInfo info = getNeighborInfo(side);
+        return info == null ? null : info.tile;
+    }
+
+    /**
+     * Gets the given capability from the side of the neighboring tile that faces us.
+     *
+     * @param side       Side of our tile the neighbor is on.
+     * @param capability Capability to get.
+     */
+    public <T> LazyOptional<T> getCapability(Direction side, Capability<T> capability) {
+        NeighborInfo info = getNeighborInfo(side);
+        if (info == null || info.tile == null) {
+            return LazyOptional.empty();
+        }
+        LazyOptional<?> cached = info.capabilities.get(capability);
+        if (cached != null) {
+            return cached.cast();
+        }
+        LazyOptional<T> lazyCapability = CapabilityUtils.getCapability(info.tile, capability, side.getOpposite());
+        //Only cache capabilities that are present, neighbors can start exposing a capability without causing a block update (for example when their side
+        // configuration changes), and we would not find out about it
+        if (lazyCapability.isPresent()) {
+            info.capabilities.put(capability, lazyCapability);
+            lazyCapability.addListener(invalidated -> {
+                //Only forget it if we haven't already replaced it with a newer one
+                if (info.capabilities.get(capability) == invalidated) {
+                    info.capabilities.remove(capability);
+                }
+            });
+        }
+        return lazyCapability;
+    }
+
+    @Nullable
+    private NeighborInfo getNeighborInfo(Direction side) {
+        World world = tile.getWorld();
+        if (world == null) {
+            return null;
+        }
+        BlockPos pos = tile.getPos().offset(side);
+        if (!MekanismUtils.isBlockLoaded(world, pos)) {
+            //Don't cache anything for positions that are not loaded so that we look again once it loads. Tiles don't get marked as removed when their chunk
+            // unloads, so we need to check this even when we have a cached neighbor
+            neighbors.remove(side);
+            return null;
+        }
+        NeighborInfo info = neighbors.get(side);
+        if (info == null || info.tile != null && info.tile.isRemoved()) {
+            info = new NeighborInfo(MekanismUtils.getTileEntity(world, pos));
+            neighbors.put(side, info);
+        }
+        return info;
+    }
+
+    /**
+     * Drops everything cached for the neighbor at the given position.
+     */
+    public void invalidate(BlockPos neighborPos) {
+        BlockPos pos = tile.getPos();
+        invalidate(Direction.getFacingFromVector(neighborPos.getX() - pos.getX(), neighborPos.getY() - pos.getY(), neighborPos.getZ() - pos.getZ()));
+    }
+
+    /**
+     * Drops everything cached for the neighbor on the given side.
+     */
+    public void invalidate(Direction side) {
+        neighbors.remove(side);
+    }
+
+    public void clear() {
+        neighbors.clear();
+    }
+
+    private static class NeighborInfo {
+
+        @Nullable
+        private final TileEntity tile;
+        private final Map<Capability<?>, LazyOptional<?>> capabilities = new Reference2ObjectArrayMap<>();
+
+        private NeighborInfo(@Nullable TileEntity tile) {
+            this.tile = tile;
+        }
+    }
+}
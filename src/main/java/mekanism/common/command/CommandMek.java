@@ -5,6 +5,10 @@ import com.mojang.brigadier.arguments.DoubleArgumentType;
 import com.mojang.brigadier.builder.ArgumentBuilder;
 import com.mojang.brigadier.builder.LiteralArgumentBuilder;
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import java.io.File;
+import java.io.IOException;
+import java.text.SimpleDateFormat;
+import java.util.Date;
 import java.util.Map;
 import java.util.Stack;
 import java.util.UUID;
@@ -14,6 +18,10 @@ import mekanism.common.Mekanism;
 import mekanism.common.MekanismLang;
 import mekanism.common.capabilities.Capabilities;
 import mekanism.common.command.builders.BuildCommand;
+import mekanism.common.lib.perf.PerfSection;
+import mekanism.common.lib.perf.PerfTracker;
+import mekanism.common.lib.perf.TimingHistogram;
+import mekanism.common.tile.base.TileEntityMekanism;
 import mekanism.common.util.text.BooleanStateDisplay.OnOff;
 import net.minecraft.client.entity.player.ClientPlayerEntity;
 import net.minecraft.command.CommandSource;
@@ -23,6 +31,7 @@ import net.minecraft.command.arguments.Vec3Argument;
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.player.ServerPlayerEntity;
 import net.minecraft.server.MinecraftServer;
+import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.vector.Vector3d;
 import net.minecraft.world.GameRules;
@@ -41,7 +50,8 @@ public class CommandMek {
               .then(TppopCommand.register())
               .then(ChunkCommand.register())
               .then(BuildCommand.COMMAND)
-              .then(RadiationCommand.register());
+              .then(RadiationCommand.register())
+              .then(SleepingCommand.register());
     }
 
     private static class DebugCommand {
@@ -53,7 +63,62 @@ public class CommandMek {
                       MekanismAPI.debug = !MekanismAPI.debug;
                       ctx.getSource().sendFeedback(MekanismLang.COMMAND_DEBUG.translate(OnOff.of(MekanismAPI.debug)), true);
                       return 0;
-                  });
+                  })
+                  .then(PerfCommand.register());
+        }
+    }
+
+    private static class PerfCommand {
+
+        static ArgumentBuilder<CommandSource, ?> register() {
+            return Commands.literal("perf")
+                  .executes(ctx -> {
+                      CommandSource source = ctx.getSource();
+                      source.sendFeedback(MekanismLang.COMMAND_PERF.translate(OnOff.of(PerfTracker.isRunning())), false);
+                      for (PerfSection section : PerfSection.values()) {
+                          TimingHistogram histogram = section.getHistogram();
+                          if (histogram.getCount() > 0) {
+                              source.sendFeedback(MekanismLang.COMMAND_PERF_SECTION.translate(section.getName(), histogram.getCount(),
+                                    toMicros(histogram.getAverageNanos()), toMicros(histogram.getPercentileNanos(0.99)), toMicros(histogram.getMaxNanos())), false);
+                          }
+                      }
+                      return 0;
+                  })
+                  .then(Commands.literal("start")
+                        .executes(ctx -> {
+                            PerfTracker.setRunning(true);
+                            ctx.getSource().sendFeedback(MekanismLang.COMMAND_PERF_START.translate(), true);
+                            return 0;
+                        }))
+                  .then(Commands.literal("stop")
+                        .executes(ctx -> {
+                            PerfTracker.setRunning(false);
+                            ctx.getSource().sendFeedback(MekanismLang.COMMAND_PERF_STOP.translate(), true);
+                            return 0;
+                        }))
+                  .then(Commands.literal("reset")
+                        .executes(ctx -> {
+                            PerfTracker.reset();
+                            ctx.getSource().sendFeedback(MekanismLang.COMMAND_PERF_RESET.translate(), true);
+                            return 0;
+                        }))
+                  .then(Commands.literal("dump")
+                        .executes(ctx -> {
+                            CommandSource source = ctx.getSource();
+                            File file = source.getServer().getFile("debug/mekanism-perf-" + new SimpleDateFormat("yyyy-MM-dd_HH.mm.ss").format(new Date()) + ".csv");
+                            try {
+                                PerfTracker.dumpCSV(file);
+                                source.sendFeedback(MekanismLang.COMMAND_PERF_DUMP.translate(file.getPath()), true);
+                            } catch (IOException e) {
+                                Mekanism.logger.error("Failed to write performance data", e);
+                                source.sendErrorMessage(MekanismLang.COMMAND_PERF_DUMP_FAILED.translate());
+                            }
+                            return 0;
+                        }));
+        }
+
+        private static String toMicros(double nanos) {
+            return String.format("%.1f", nanos / 1_000);
         }
     }
 
@@ -175,6 +240,31 @@ public class CommandMek {
         }
     }
 
+    private static class SleepingCommand {
+
+        static ArgumentBuilder<CommandSource, ?> register() {
+            return Commands.literal("sleeping")
+                  .requires(cs -> cs.hasPermissionLevel(4))
+                  .executes(ctx -> {
+                      CommandSource source = ctx.getSource();
+                      for (ServerWorld world : source.getServer().getWorlds()) {
+                          int sleeping = 0, active = 0;
+                          for (TileEntity tile : world.loadedTileEntityList) {
+                              if (tile instanceof TileEntityMekanism) {
+                                  if (((TileEntityMekanism) tile).isSleeping()) {
+                                      sleeping++;
+                                  } else {
+                                      active++;
+                                  }
+                              }
+                          }
+                          source.sendFeedback(MekanismLang.COMMAND_SLEEPING.translate(world.func_234923_W_().func_240901_a_(), sleeping, active), true);
+                      }
+                      return 0;
+                  });
+        }
+    }
+
     private static void teleport(Entity player, double x, double y, double z) {
         if (player instanceof ServerPlayerEntity) {
             ServerPlayerEntity mp = (ServerPlayerEntity) player;
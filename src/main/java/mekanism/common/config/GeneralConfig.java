@@ -34,6 +34,7 @@ public class GeneralConfig extends BaseMekanismConfig {
     private static final String RADIATION_CATEGORY = "radiation";
     private static final String PREFILLED_CATEGORY = "prefilled";
     private static final String NUTRITIONAL_PASTE_CATEGORY = "nutritional_paste";
+    private static final String TRANSMITTER_SYNC_CATEGORY = "transmitter_sync";
 
     private final ForgeConfigSpec configSpec;
 
@@ -108,6 +109,10 @@ public class GeneralConfig extends BaseMekanismConfig {
     //SPS
     public final CachedIntValue spsInputPerAntimatter;
     public final CachedFloatingLongValue spsEnergyPerInput;
+    //Transmitter Sync
+    public final NetworkSyncConfig energyNetworkSync;
+    public final NetworkSyncConfig fluidNetworkSync;
+    public final NetworkSyncConfig chemicalNetworkSync;
 
     GeneralConfig() {
         ForgeConfigSpec.Builder builder = new ForgeConfigSpec.Builder();
@@ -274,6 +279,12 @@ public class GeneralConfig extends BaseMekanismConfig {
               "energyPerInput", FloatingLong.createConst(1_000_000));
         builder.pop();
 
+        builder.comment("Settings for how often the contents of transmitter networks get synced to clients for rendering").push(TRANSMITTER_SYNC_CATEGORY);
+        energyNetworkSync = new NetworkSyncConfig(this, builder, "energy");
+        fluidNetworkSync = new NetworkSyncConfig(this, builder, "fluid");
+        chemicalNetworkSync = new NetworkSyncConfig(this, builder, "chemical");
+        builder.pop();
+
         builder.pop();
         configSpec = builder.build();
     }
@@ -292,4 +303,22 @@ public class GeneralConfig extends BaseMekanismConfig {
     public Type getConfigType() {
         return Type.SERVER;
     }
+
+    public static class NetworkSyncConfig {
+
+        public final CachedIntValue minInterval;
+        public final CachedFloatValue minScaleDelta;
+        public final CachedBooleanValue onlyWithReceivers;
+
+        private NetworkSyncConfig(IMekanismConfig config, ForgeConfigSpec.Builder builder, String type) {
+            builder.comment("Sync Settings for " + type + " networks.").push(type);
+            minInterval = CachedIntValue.wrap(config, builder.comment("Minimum number of ticks between syncing how full " + type + " networks are to clients. Changes in what a network contains are always synced right away.")
+                  .defineInRange("minInterval", 4, 1, 1_200));
+            minScaleDelta = CachedFloatValue.wrap(config, builder.comment("Minimum change in how full " + type + " networks are (0 to 1) before it gets synced to clients. Becoming empty or full is always synced.")
+                  .defineInRange("minScaleDelta", 0.02, 0, 1));
+            onlyWithReceivers = CachedBooleanValue.wrap(config, builder.comment("Only sync how full " + type + " networks are when players are in range of them. Players that come into range later get the current state when the transmitters load for them.")
+                  .define("onlyWithReceivers", true));
+            builder.pop();
+        }
+    }
 }
\ No newline at end of file
@@ -9,7 +9,6 @@ import mekanism.api.Action;
 import mekanism.api.NBTConstants;
 import mekanism.api.chemical.gas.GasStack;
 import mekanism.api.chemical.gas.IGasTank;
-import mekanism.api.chemical.gas.attribute.GasAttributes.CooledCoolant;
 import mekanism.api.chemical.gas.attribute.GasAttributes.HeatedCoolant;
 import mekanism.api.heat.HeatAPI;
 import mekanism.api.heat.HeatAPI.HeatTransfer;
@@ -84,7 +83,7 @@ public class BoilerMultiblockData extends MultiblockData implements IValveHandle
         super(tile);
         superheatedCoolantTank = MultiblockChemicalTankBuilder.GAS.create(this, tile, this::getSuperheatedCoolantTankCapacity,
               (stack, automationType) -> automationType != AutomationType.EXTERNAL, (stack, automationType) -> automationType != AutomationType.EXTERNAL || isFormed(),
-              gas -> gas.has(HeatedCoolant.class));
+              gas -> gas.isHeatedCoolant());
         waterTank = MultiblockFluidTank.input(this, tile, this::getWaterTankCapacity, fluid -> fluid.getFluid().isIn(FluidTags.WATER));
         fluidTanks.add(waterTank);
         steamTank = MultiblockChemicalTankBuilder.GAS.create(this, tile, this::getSteamTankCapacity,
@@ -92,7 +91,7 @@ public class BoilerMultiblockData extends MultiblockData implements IValveHandle
               gas -> gas == MekanismGases.STEAM.getChemical());
         cooledCoolantTank = MultiblockChemicalTankBuilder.GAS.create(this, tile, this::getCooledCoolantTankCapacity,
               (stack, automationType) -> automationType != AutomationType.EXTERNAL || isFormed(), (stack, automationType) -> automationType != AutomationType.EXTERNAL,
-              gas -> gas.has(CooledCoolant.class));
+              gas -> gas.isCooledCoolant());
         gasTanks.addAll(Arrays.asList(steamTank, superheatedCoolantTank, cooledCoolantTank));
         heatCapacitor = MultiblockHeatCapacitor.create(this, tile,
               CASING_HEAT_CAPACITY,
@@ -19,7 +19,6 @@ import mekanism.api.chemical.IChemicalHandler;
 import mekanism.api.chemical.IChemicalTank;
 import mekanism.api.chemical.gas.GasStack;
 import mekanism.api.chemical.gas.IGasTank;
-import mekanism.api.chemical.gas.attribute.GasAttributes;
 import mekanism.api.chemical.infuse.IInfusionTank;
 import mekanism.api.chemical.merged.BoxedChemical;
 import mekanism.api.chemical.merged.BoxedChemicalStack;
@@ -36,9 +35,13 @@ import mekanism.common.capabilities.chemical.dynamic.IInfusionTracker;
 import mekanism.common.capabilities.chemical.dynamic.IPigmentTracker;
 import mekanism.common.capabilities.chemical.dynamic.ISlurryTracker;
 import mekanism.common.capabilities.chemical.variable.VariableCapacityChemicalTankBuilder;
-import mekanism.common.content.network.distribution.BoxedChemicalTransmitterSaveTarget;
+import mekanism.common.config.GeneralConfig.NetworkSyncConfig;
+import mekanism.common.config.MekanismConfig;
 import mekanism.common.content.network.distribution.ChemicalHandlerTarget;
 import mekanism.common.content.network.transmitter.BoxedPressurizedTube;
+import mekanism.common.lib.distribution.CapacitySplitter;
+import mekanism.common.lib.perf.PerfSection;
+import mekanism.common.lib.perf.PerfTracker;
 import mekanism.common.lib.transmitter.DynamicBufferedNetwork;
 import mekanism.common.util.ChemicalUtil;
 import mekanism.common.util.EmitUtils;
@@ -240,20 +243,31 @@ public class BoxedChemicalNetwork extends DynamicBufferedNetwork<BoxedChemicalHa
     private <CHEMICAL extends Chemical<CHEMICAL>, STACK extends ChemicalStack<CHEMICAL>> void updateSaveShares(@Nullable BoxedPressurizedTube triggerTransmitter, int size,
           STACK chemical) {
         STACK empty = ChemicalUtil.getEmptyStack(chemical);
-        Direction side = Direction.NORTH;
-        Set<BoxedChemicalTransmitterSaveTarget<CHEMICAL, STACK>> saveTargets = new ObjectOpenHashSet<>(size);
-        for (BoxedPressurizedTube transmitter : transmitters) {
-            BoxedChemicalTransmitterSaveTarget<CHEMICAL, STACK> saveTarget = new BoxedChemicalTransmitterSaveTarget<>(empty, chemical);
-            saveTarget.addHandler(side, transmitter);
-            saveTargets.add(saveTarget);
+        BoxedPressurizedTube[] tubes = transmitters.toArray(new BoxedPressurizedTube[0]);
+        long[] capacities = new long[size];
+        for (int i = 0; i < size; i++) {
+            capacities[i] = tubes[i].getCapacity();
+        }
+        long[] shares = CapacitySplitter.split(chemical.getAmount(), capacities);
+        long sent = 0;
+        for (int i = 0; i < size; i++) {
+            BoxedPressurizedTube tube = tubes[i];
+            sent += shares[i];
+            STACK share = shares[i] == 0 ? empty : ChemicalUtil.copyWithAmount(chemical, shares[i]);
+            boolean shouldSave = false;
+            if (share.isEmpty() != tube.saveShare.isEmpty()) {
+                shouldSave = true;
+            } else if (!share.isEmpty()) {
+                shouldSave = ChemicalType.getTypeFor(share) != tube.saveShare.getChemicalType() || !share.isStackIdentical((STACK) tube.saveShare.getChemicalStack());
+            }
+            if (shouldSave) {
+                tube.saveShare = share.isEmpty() ? BoxedChemicalStack.EMPTY : BoxedChemicalStack.box(share);
+                tube.getTransmitterTile().markDirty(false);
+            }
         }
-        long sent = EmitUtils.sendToAcceptors(saveTargets, size, chemical.getAmount(), chemical);
         if (triggerTransmitter != null && sent < chemical.getAmount()) {
             disperse(triggerTransmitter, ChemicalUtil.copyWithAmount(chemical, chemical.getAmount() - sent));
         }
-        for (BoxedChemicalTransmitterSaveTarget<CHEMICAL, STACK> saveTarget : saveTargets) {
-            saveTarget.saveShare(side);
-        }
     }
 
     @Override
@@ -266,10 +280,10 @@ public class BoxedChemicalNetwork extends DynamicBufferedNetwork<BoxedChemicalHa
 
     protected <CHEMICAL extends Chemical<CHEMICAL>, STACK extends ChemicalStack<CHEMICAL>> void disperse(@Nonnull BoxedPressurizedTube triggerTransmitter, STACK chemical) {
         if (chemical instanceof GasStack) {
-            if (chemical.has(GasAttributes.Radiation.class)) {
+            CHEMICAL type = chemical.getType();
+            if (type.isRadioactive()) {
                 // Handle radiation leakage
-                double radioactivity = chemical.get(GasAttributes.Radiation.class).getRadioactivity();
-                Mekanism.radiationManager.radiate(new Coord4D(triggerTransmitter.getTilePos(), triggerTransmitter.getTileWorld()), chemical.getAmount() * radioactivity);
+                Mekanism.radiationManager.radiate(new Coord4D(triggerTransmitter.getTilePos(), triggerTransmitter.getTileWorld()), chemical.getAmount() * type.getRadioactivity());
             }
         }
     }
@@ -298,20 +312,26 @@ public class BoxedChemicalNetwork extends DynamicBufferedNetwork<BoxedChemicalHa
     @Override
     public void onUpdate() {
         super.onUpdate();
-        if (needsUpdate) {
+        if (shouldSyncClients()) {
             MinecraftForge.EVENT_BUS.post(new ChemicalTransferEvent(this, lastChemical));
-            needsUpdate = false;
         }
         Current current = chemicalTank.getCurrent();
         if (current == Current.EMPTY) {
             prevTransferAmount = 0;
         } else {
             IChemicalTank<?, ?> tank = chemicalTank.getTankFromCurrent(current);
+            long start = PerfTracker.start();
             prevTransferAmount = tickEmit(tank.getStack());
+            PerfTracker.end(PerfSection.CHEMICAL_NETWORK_EMIT, start);
             MekanismUtils.logMismatchedStackSize(tank.shrinkStack(prevTransferAmount, Action.EXECUTE), prevTransferAmount);
         }
     }
 
+    @Override
+    protected NetworkSyncConfig getSyncConfig() {
+        return MekanismConfig.general.chemicalNetworkSync;
+    }
+
     @Override
     protected float computeContentScale() {
         float scale = (float) (getCurrentTankWithFallback().getStored() / (double) getCapacity());
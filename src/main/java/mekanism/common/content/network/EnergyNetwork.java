@@ -19,9 +19,13 @@ import mekanism.api.math.FloatingLong;
 import mekanism.common.MekanismLang;
 import mekanism.common.capabilities.energy.BasicEnergyContainer;
 import mekanism.common.capabilities.energy.VariableCapacityEnergyContainer;
+import mekanism.common.config.GeneralConfig.NetworkSyncConfig;
+import mekanism.common.config.MekanismConfig;
 import mekanism.common.content.network.distribution.EnergyAcceptorTarget;
-import mekanism.common.content.network.distribution.EnergyTransmitterSaveTarget;
 import mekanism.common.content.network.transmitter.UniversalCable;
+import mekanism.common.lib.distribution.CapacitySplitter;
+import mekanism.common.lib.perf.PerfSection;
+import mekanism.common.lib.perf.PerfTracker;
 import mekanism.common.lib.transmitter.DynamicBufferedNetwork;
 import mekanism.common.util.EmitUtils;
 import mekanism.common.util.text.EnergyDisplay;
@@ -136,17 +140,19 @@ public class EnergyNetwork extends DynamicBufferedNetwork<IStrictEnergyHandler,
         super.updateSaveShares(triggerTransmitter);
         int size = transmittersSize();
         if (size > 0) {
-            //Just pretend we are always accessing it from the north
-            Direction side = Direction.NORTH;
-            Set<EnergyTransmitterSaveTarget> saveTargets = new ObjectOpenHashSet<>(size);
-            for (UniversalCable transmitter : transmitters) {
-                EnergyTransmitterSaveTarget saveTarget = new EnergyTransmitterSaveTarget();
-                saveTarget.addHandler(side, transmitter);
-                saveTargets.add(saveTarget);
+            UniversalCable[] cables = transmitters.toArray(new UniversalCable[0]);
+            FloatingLong[] capacities = new FloatingLong[size];
+            for (int i = 0; i < size; i++) {
+                capacities[i] = cables[i].getCapacityAsFloatingLong();
             }
-            EmitUtils.sendToAcceptors(saveTargets, size, energyContainer.getEnergy().copy());
-            for (EnergyTransmitterSaveTarget saveTarget : saveTargets) {
-                saveTarget.saveShare(side);
+            FloatingLong[] shares = CapacitySplitter.split(energyContainer.getEnergy(), capacities);
+            for (int i = 0; i < size; i++) {
+                UniversalCable cable = cables[i];
+                FloatingLong share = shares[i];
+                if (!share.isZero() || !cable.lastWrite.isZero()) {
+                    cable.lastWrite = share;
+                    cable.getTransmitterTile().markDirty(false);
+                }
             }
         }
     }
@@ -178,18 +184,24 @@ public class EnergyNetwork extends DynamicBufferedNetwork<IStrictEnergyHandler,
     @Override
     public void onUpdate() {
         super.onUpdate();
-        if (needsUpdate) {
+        if (shouldSyncClients()) {
             MinecraftForge.EVENT_BUS.post(new EnergyTransferEvent(this));
-            needsUpdate = false;
         }
         if (energyContainer.isEmpty()) {
             prevTransferAmount = FloatingLong.ZERO;
         } else {
+            long start = PerfTracker.start();
             prevTransferAmount = tickEmit(energyContainer.getEnergy());
+            PerfTracker.end(PerfSection.ENERGY_NETWORK_EMIT, start);
             energyContainer.extract(prevTransferAmount, Action.EXECUTE, AutomationType.INTERNAL);
         }
     }
 
+    @Override
+    protected NetworkSyncConfig getSyncConfig() {
+        return MekanismConfig.general.energyNetworkSync;
+    }
+
     @Override
     protected float computeContentScale() {
         float scale = (float) energyContainer.getEnergy().divideToLevel(energyContainer.getMaxEnergy());
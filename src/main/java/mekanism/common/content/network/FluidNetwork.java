@@ -17,9 +17,13 @@ import mekanism.api.math.MathUtils;
 import mekanism.common.MekanismLang;
 import mekanism.common.capabilities.fluid.BasicFluidTank;
 import mekanism.common.capabilities.fluid.VariableCapacityFluidTank;
+import mekanism.common.config.GeneralConfig.NetworkSyncConfig;
+import mekanism.common.config.MekanismConfig;
 import mekanism.common.content.network.distribution.FluidHandlerTarget;
-import mekanism.common.content.network.distribution.FluidTransmitterSaveTarget;
 import mekanism.common.content.network.transmitter.MechanicalPipe;
+import mekanism.common.lib.distribution.CapacitySplitter;
+import mekanism.common.lib.perf.PerfSection;
+import mekanism.common.lib.perf.PerfTracker;
 import mekanism.common.lib.transmitter.DynamicBufferedNetwork;
 import mekanism.common.util.EmitUtils;
 import mekanism.common.util.FluidUtils;
@@ -155,17 +159,19 @@ public class FluidNetwork extends DynamicBufferedNetwork<IFluidHandler, FluidNet
         int size = transmittersSize();
         if (size > 0) {
             FluidStack fluidType = fluidTank.getFluid();
-            //Just pretend we are always accessing it from the north
-            Direction side = Direction.NORTH;
-            Set<FluidTransmitterSaveTarget> saveTargets = new ObjectOpenHashSet<>(size);
-            for (MechanicalPipe transmitter : transmitters) {
-                FluidTransmitterSaveTarget saveTarget = new FluidTransmitterSaveTarget(fluidType);
-                saveTarget.addHandler(side, transmitter);
-                saveTargets.add(saveTarget);
+            MechanicalPipe[] pipes = transmitters.toArray(new MechanicalPipe[0]);
+            long[] capacities = new long[size];
+            for (int i = 0; i < size; i++) {
+                capacities[i] = MathUtils.clampToInt(pipes[i].getCapacity());
             }
-            EmitUtils.sendToAcceptors(saveTargets, size, fluidType.getAmount(), fluidType);
-            for (FluidTransmitterSaveTarget saveTarget : saveTargets) {
-                saveTarget.saveShare(side);
+            long[] shares = CapacitySplitter.split(fluidType.getAmount(), capacities);
+            for (int i = 0; i < size; i++) {
+                MechanicalPipe pipe = pipes[i];
+                FluidStack share = shares[i] == 0 ? FluidStack.EMPTY : new FluidStack(fluidType, (int) shares[i]);
+                if (share.isEmpty() != pipe.saveShare.isEmpty() || (!share.isEmpty() && !share.isFluidStackIdentical(pipe.saveShare))) {
+                    pipe.saveShare = share;
+                    pipe.getTransmitterTile().markDirty(false);
+                }
             }
         }
     }
@@ -192,18 +198,24 @@ public class FluidNetwork extends DynamicBufferedNetwork<IFluidHandler, FluidNet
     @Override
     public void onUpdate() {
         super.onUpdate();
-        if (needsUpdate) {
+        if (shouldSyncClients()) {
             MinecraftForge.EVENT_BUS.post(new FluidTransferEvent(this, lastFluid));
-            needsUpdate = false;
         }
         if (fluidTank.isEmpty()) {
             prevTransferAmount = 0;
         } else {
+            long start = PerfTracker.start();
             prevTransferAmount = tickEmit(fluidTank.getFluid());
+            PerfTracker.end(PerfSection.FLUID_NETWORK_EMIT, start);
             MekanismUtils.logMismatchedStackSize(fluidTank.shrinkStack(prevTransferAmount, Action.EXECUTE), prevTransferAmount);
         }
     }
 
+    @Override
+    protected NetworkSyncConfig getSyncConfig() {
+        return MekanismConfig.general.fluidNetworkSync;
+    }
+
     @Override
     protected float computeContentScale() {
         float scale = fluidTank.getFluidAmount() / (float) fluidTank.getCapacity();
@@ -1,15 +1,27 @@
 package mekanism.common.content.network;
 
+import it.unimi.dsi.fastutil.doubles.DoubleArrayList;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
 import java.util.Collection;
 import java.util.UUID;
+import javax.annotation.Nullable;
 import mekanism.api.heat.HeatAPI;
-import mekanism.api.heat.HeatAPI.HeatTransfer;
 import mekanism.api.heat.IHeatHandler;
 import mekanism.common.MekanismLang;
+import mekanism.common.capabilities.heat.BasicHeatCapacitor;
 import mekanism.common.content.network.transmitter.ThermodynamicConductor;
+import mekanism.common.content.network.transmitter.Transmitter;
+import mekanism.common.lib.perf.PerfSection;
+import mekanism.common.lib.perf.PerfTracker;
 import mekanism.common.lib.transmitter.DynamicNetwork;
+import mekanism.common.tile.transmitter.TileEntityThermodynamicConductor;
+import mekanism.common.util.EnumUtils;
 import mekanism.common.util.MekanismUtils;
 import mekanism.common.util.UnitDisplayUtils.TemperatureUnit;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.Direction;
 import net.minecraft.util.text.ITextComponent;
 
 public class HeatNetwork extends DynamicNetwork<IHeatHandler, HeatNetwork, ThermodynamicConductor> {
@@ -18,6 +30,23 @@ public class HeatNetwork extends DynamicNetwork<IHeatHandler, HeatNetwork, Therm
     private double heatLost;
     private double heatTransferred;
 
+    //Struct of arrays representation of the conductors in this network, indexed by conductor. Rebuilt whenever the structure of the network changes
+    private boolean simulationDirty = true;
+    private ThermodynamicConductor[] conductors = new ThermodynamicConductor[0];
+    private byte[] connections = new byte[0];
+    private double[] heatCapacity = new double[0];
+    private double[] inverseConduction = new double[0];
+    private double[] environmentInverseConduction = new double[0];
+    private double[] temperatures = new double[0];
+    private double[] heatDeltas = new double[0];
+    //Adjacency between conductors in this network, the edges of conductor i are in the range [edgeStart[i], edgeStart[i + 1])
+    private int[] edgeStart = {0};
+    private int[] edgeTarget = new int[0];
+    private double[] edgeInverseConduction = new double[0];
+    //Sides of conductors that connect to something other than a conductor in this network, resolved each tick as they may change
+    private int[] externalSource = new int[0];
+    private Direction[] externalSide = new Direction[0];
+
     public HeatNetwork() {
     }
 
@@ -49,21 +78,150 @@ public class HeatNetwork extends DynamicNetwork<IHeatHandler, HeatNetwork, Therm
                                                      (Math.round(heatTransferred / (heatTransferred + heatLost) * 10_000) / 100F) + "%");
     }
 
+    @Override
+    protected void validTransmittersAdded() {
+        super.validTransmittersAdded();
+        simulationDirty = true;
+    }
+
+    @Override
+    protected void removeInvalid(@Nullable ThermodynamicConductor triggerTransmitter) {
+        super.removeInvalid(triggerTransmitter);
+        simulationDirty = true;
+    }
+
+    @Override
+    protected void transmittersRemoved() {
+        super.transmittersRemoved();
+        simulationDirty = true;
+    }
+
+    @Override
+    public void adoptTransmittersAndAcceptorsFrom(HeatNetwork net) {
+        super.adoptTransmittersAndAcceptorsFrom(net);
+        simulationDirty = true;
+    }
+
+    @Override
+    public void acceptorChanged(ThermodynamicConductor transmitter, Direction side) {
+        super.acceptorChanged(transmitter, side);
+        simulationDirty = true;
+    }
+
+    private boolean needsRebuild() {
+        if (simulationDirty || conductors.length != transmitters.size()) {
+            return true;
+        }
+        for (int i = 0; i < conductors.length; i++) {
+            if (connections[i] != conductors[i].getAllCurrentConnections()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void rebuildSimulation() {
+        simulationDirty = false;
+        int count = transmitters.size();
+        conductors = transmitters.toArray(new ThermodynamicConductor[0]);
+        connections = new byte[count];
+        heatCapacity = new double[count];
+        inverseConduction = new double[count];
+        environmentInverseConduction = new double[count];
+        temperatures = new double[count];
+        heatDeltas = new double[count];
+        Object2IntMap<ThermodynamicConductor> indices = new Object2IntOpenHashMap<>(count);
+        indices.defaultReturnValue(-1);
+        for (int i = 0; i < count; i++) {
+            ThermodynamicConductor conductor = conductors[i];
+            BasicHeatCapacitor buffer = conductor.buffer;
+            indices.put(conductor, i);
+            connections[i] = conductor.getAllCurrentConnections();
+            heatCapacity[i] = buffer.getHeatCapacity();
+            inverseConduction[i] = buffer.getInverseConduction();
+            environmentInverseConduction[i] = HeatAPI.AIR_INVERSE_COEFFICIENT + buffer.getInverseInsulation() + buffer.getInverseConduction();
+        }
+        edgeStart = new int[count + 1];
+        IntArrayList targets = new IntArrayList();
+        DoubleArrayList targetInverseConduction = new DoubleArrayList();
+        IntArrayList externalSources = new IntArrayList();
+        IntArrayList externalSides = new IntArrayList();
+        for (int i = 0; i < count; i++) {
+            edgeStart[i] = targets.size();
+            for (Direction side : EnumUtils.DIRECTIONS) {
+                if (Transmitter.connectionMapContainsSide(connections[i], side)) {
+                    TileEntity tile = conductors[i].getAcceptorCache().getConnectedAcceptorTile(side);
+                    int target = tile instanceof TileEntityThermodynamicConductor ? indices.getInt(((TileEntityThermodynamicConductor) tile).getTransmitter()) : -1;
+                    if (target == -1) {
+                        externalSources.add(i);
+                        externalSides.add(side.ordinal());
+                    } else {
+                        targets.add(target);
+                        targetInverseConduction.add(inverseConduction[target] + inverseConduction[i]);
+                    }
+                }
+            }
+        }
+        edgeStart[count] = targets.size();
+        edgeTarget = targets.toIntArray();
+        edgeInverseConduction = targetInverseConduction.toDoubleArray();
+        externalSource = externalSources.toIntArray();
+        externalSide = new Direction[externalSides.size()];
+        for (int i = 0; i < externalSide.length; i++) {
+            externalSide[i] = EnumUtils.DIRECTIONS[externalSides.getInt(i)];
+        }
+    }
+
     @Override
     public void onUpdate() {
         super.onUpdate();
+        long start = PerfTracker.start();
+        if (needsRebuild()) {
+            rebuildSimulation();
+        }
+        int count = conductors.length;
         double newSumTemp = 0, newHeatLost = 0, newHeatTransferred = 0;
-        for (ThermodynamicConductor transmitter : transmitters) {
-            // change this when we re-integrate with multipart
-            HeatTransfer transfer = transmitter.simulate();
-            transmitter.updateHeatCapacitors(null);
-            newHeatTransferred += transfer.getAdjacentTransfer();
-            newHeatLost += transfer.getEnvironmentTransfer();
-            newSumTemp += transmitter.getTotalTemperature();
+        for (int i = 0; i < count; i++) {
+            temperatures[i] = conductors[i].buffer.getHeat() / heatCapacity[i];
+            heatDeltas[i] = 0;
+        }
+        //Transfer between conductors in the network and to the environment, based on the temperatures at the start of the tick
+        for (int i = 0; i < count; i++) {
+            double capacity = heatCapacity[i];
+            double excessTemp = temperatures[i] - HeatAPI.AMBIENT_TEMP;
+            for (int edge = edgeStart[i], end = edgeStart[i + 1]; edge < end; edge++) {
+                double tempToTransfer = excessTemp / edgeInverseConduction[edge];
+                double heat = tempToTransfer * capacity;
+                heatDeltas[i] -= heat;
+                heatDeltas[edgeTarget[edge]] += heat;
+            }
+            //Each side of the conductor dissipates to the environment
+            double tempToEnvironment = EnumUtils.DIRECTIONS.length * excessTemp / environmentInverseConduction[i];
+            heatDeltas[i] -= tempToEnvironment * capacity;
+            newHeatLost += tempToEnvironment;
+        }
+        //Transfer to any handlers that are not part of this network, only this counts as heat transferred by the network
+        for (int edge = 0; edge < externalSource.length; edge++) {
+            int i = externalSource[edge];
+            IHeatHandler sink = conductors[i].getAdjacent(externalSide[edge]);
+            if (sink != null) {
+                double tempToTransfer = (temperatures[i] - HeatAPI.AMBIENT_TEMP) / (sink.getTotalInverseConduction() + inverseConduction[i]);
+                double heat = tempToTransfer * heatCapacity[i];
+                heatDeltas[i] -= heat;
+                sink.handleHeat(heat);
+                newHeatTransferred += tempToTransfer;
+            }
+        }
+        for (int i = 0; i < count; i++) {
+            BasicHeatCapacitor buffer = conductors[i].buffer;
+            buffer.handleHeat(heatDeltas[i]);
+            buffer.update();
+            newSumTemp += buffer.getTemperature();
         }
         heatLost = newHeatLost;
         heatTransferred = newHeatTransferred;
-        meanTemp = newSumTemp / transmitters.size();
+        meanTemp = newSumTemp / count;
+        PerfTracker.end(PerfSection.HEAT_NETWORK_UPDATE, start);
     }
 
     @Override
@@ -1,6 +1,9 @@
 package mekanism.common.content.network;
 
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.IntSet;
 import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.EnumSet;
@@ -11,6 +14,7 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
 import mekanism.api.Coord4D;
+import mekanism.common.Mekanism;
 import mekanism.common.MekanismLang;
 import mekanism.common.content.network.transmitter.LogisticalTransporterBase;
 import mekanism.common.content.transporter.PathfinderCache;
@@ -19,17 +23,25 @@ import mekanism.common.content.transporter.TransporterStack;
 import mekanism.common.lib.inventory.TransitRequest;
 import mekanism.common.lib.inventory.TransitRequest.TransitResponse;
 import mekanism.common.lib.transmitter.DynamicNetwork;
+import mekanism.common.network.PacketTransporterUpdate;
 import mekanism.common.util.MekanismUtils;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.Direction;
 import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
 import net.minecraft.util.text.ITextComponent;
+import net.minecraft.world.World;
 import net.minecraft.world.chunk.IChunk;
 import net.minecraftforge.common.util.LazyOptional;
 import net.minecraftforge.items.IItemHandler;
 
 public class InventoryNetwork extends DynamicNetwork<IItemHandler, InventoryNetwork, LogisticalTransporterBase> {
 
+    /**
+     * Client updates of the transporters in this network that are waiting to be sent, batched per chunk they are in.
+     */
+    private final Long2ObjectMap<PacketTransporterUpdate> pendingClientUpdates = new Long2ObjectOpenHashMap<>();
+
     public InventoryNetwork() {
     }
 
@@ -80,6 +92,33 @@ public class InventoryNetwork extends DynamicNetwork<IItemHandler, InventoryNetw
         return toReturn;
     }
 
+    /**
+     * Queues the given changes of a transporter to be sent to the clients tracking it at the end of the tick, together with the changes of all the other transporters
+     * of this network that are in the same chunk.
+     */
+    public void queueClientUpdate(LogisticalTransporterBase transporter, Int2ObjectMap<TransporterStack> updates, IntSet deletes) {
+        BlockPos pos = transporter.getTilePos();
+        pendingClientUpdates.computeIfAbsent(ChunkPos.asLong(pos.getX() >> 4, pos.getZ() >> 4), chunk -> new PacketTransporterUpdate()).add(transporter, updates, deletes);
+    }
+
+    private void sendClientUpdates() {
+        if (!pendingClientUpdates.isEmpty()) {
+            World world = getWorld();
+            if (world != null) {
+                for (Long2ObjectMap.Entry<PacketTransporterUpdate> entry : pendingClientUpdates.long2ObjectEntrySet()) {
+                    Mekanism.packetHandler.sendToAllTracking(entry.getValue(), world, new ChunkPos(entry.getLongKey()).asBlockPos());
+                }
+            }
+            pendingClientUpdates.clear();
+        }
+    }
+
+    @Override
+    public void onUpdate() {
+        super.onUpdate();
+        sendClientUpdates();
+    }
+
     @Override
     public void commit() {
         super.commit();
@@ -87,8 +126,17 @@ public class InventoryNetwork extends DynamicNetwork<IItemHandler, InventoryNetw
         PathfinderCache.onChanged(this);
     }
 
+    @Override
+    protected void transmittersRemoved() {
+        super.transmittersRemoved();
+        // update the cache when part of the network has been removed
+        PathfinderCache.onChanged(this);
+    }
+
     @Override
     public void deregister() {
+        //Make sure any changes that are still pending get to the client even if the network is being merged or split
+        sendClientUpdates();
         super.deregister();
         // update the cache when the network has been removed (when transmitters are removed)
         PathfinderCache.onChanged(this);
@@ -213,20 +213,28 @@ public class BoxedPressurizedTube extends BufferedTransmitter<BoxedChemicalHandl
     @Override
     public boolean isValidTransmitter(Transmitter<?, ?, ?> transmitter) {
         if (super.isValidTransmitter(transmitter) && transmitter instanceof BoxedPressurizedTube) {
-            BoxedChemical buffer = getBufferWithFallback().getType();
-            if (buffer.isEmpty() && hasTransmitterNetwork() && getTransmitterNetwork().getPrevTransferAmount() > 0) {
-                buffer = getTransmitterNetwork().lastChemical;
-            }
-            BoxedPressurizedTube other = (BoxedPressurizedTube) transmitter;
-            BoxedChemical otherBuffer = other.getBufferWithFallback().getType();
-            if (otherBuffer.isEmpty() && other.hasTransmitterNetwork() && other.getTransmitterNetwork().getPrevTransferAmount() > 0) {
-                otherBuffer = other.getTransmitterNetwork().lastChemical;
-            }
+            BoxedChemical buffer = getCompatibilityType();
+            BoxedChemical otherBuffer = ((BoxedPressurizedTube) transmitter).getCompatibilityType();
             return buffer.isEmpty() || otherBuffer.isEmpty() || buffer.equals(otherBuffer);
         }
         return false;
     }
 
+    @Nullable
+    @Override
+    public Object getNetworkCompatibilityKey() {
+        BoxedChemical buffer = getCompatibilityType();
+        return buffer.isEmpty() ? null : buffer;
+    }
+
+    private BoxedChemical getCompatibilityType() {
+        BoxedChemical buffer = getBufferWithFallback().getType();
+        if (buffer.isEmpty() && hasTransmitterNetwork() && getTransmitterNetwork().getPrevTransferAmount() > 0) {
+            buffer = getTransmitterNetwork().lastChemical;
+        }
+        return buffer;
+    }
+
     @Override
     protected boolean canHaveIncompatibleNetworks() {
         return true;
@@ -1,14 +1,17 @@
 package mekanism.common.content.network.transmitter;
 
 import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMaps;
 import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
 import it.unimi.dsi.fastutil.ints.IntOpenHashSet;
 import it.unimi.dsi.fastutil.ints.IntSet;
+import it.unimi.dsi.fastutil.ints.IntSets;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.UUID;
 import java.util.function.IntConsumer;
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import mekanism.api.NBTConstants;
 import mekanism.api.text.EnumColor;
 import mekanism.common.Mekanism;
@@ -90,6 +93,12 @@ public abstract class LogisticalTransporterBase extends Transmitter<IItemHandler
         return false;
     }
 
+    @Nullable
+    @Override
+    public Object getNetworkCompatibilityKey() {
+        return getColor();
+    }
+
     @Override
     public boolean isValidAcceptor(TileEntity tile, Direction side) {
         return super.isValidAcceptor(tile, side) && getAcceptorCache().isAcceptorAndListen(tile, side, CapabilityItemHandler.ITEM_HANDLER_CAPABILITY);
@@ -216,7 +225,7 @@ public abstract class LogisticalTransporterBase extends Transmitter<IItemHandler
 
             if (!deletes.isEmpty() || !needsSync.isEmpty()) {
                 //Notify clients, so that we send the information before we start clearing our lists
-                Mekanism.packetHandler.sendToAllTracking(new PacketTransporterUpdate(this, needsSync, deletes), getTransmitterTile());
+                sendClientUpdate(needsSync, deletes);
                 // Now remove any entries from transit that have been deleted
                 deletes.forEach((IntConsumer) (this::deleteStack));
 
@@ -402,13 +411,23 @@ public abstract class LogisticalTransporterBase extends Transmitter<IItemHandler
             if (doEmit) {
                 int stackId = nextId++;
                 addStack(stackId, stack);
-                Mekanism.packetHandler.sendToAllTracking(new PacketTransporterUpdate(this, stackId, stack), getTransmitterTile());
+                sendClientUpdate(Int2ObjectMaps.singleton(stackId, stack), IntSets.EMPTY_SET);
                 MekanismUtils.saveChunk(getTransmitterTile());
             }
         }
         return response;
     }
 
+    private void sendClientUpdate(Int2ObjectMap<TransporterStack> updates, IntSet deletes) {
+        InventoryNetwork network = getTransmitterNetwork();
+        if (network == null) {
+            Mekanism.packetHandler.sendToAllTracking(new PacketTransporterUpdate(this, updates, deletes), getTransmitterTile());
+        } else {
+            //Batch the update with the other changes in the network, so that clients receive one packet per chunk each tick
+            network.queueClientUpdate(this, updates, deletes);
+        }
+    }
+
     private void entityEntering(TransporterStack stack, int progress) {
         // Update the progress of the stack and add it as something that's both
         // in transit and needs sync down to the client.
@@ -142,20 +142,36 @@ public class MechanicalPipe extends BufferedTransmitter<IFluidHandler, FluidNetw
     @Override
     public boolean isValidTransmitter(Transmitter<?, ?, ?> transmitter) {
         if (super.isValidTransmitter(transmitter) && transmitter instanceof MechanicalPipe) {
-            FluidStack buffer = getBufferWithFallback();
-            if (buffer.isEmpty() && hasTransmitterNetwork() && getTransmitterNetwork().getPrevTransferAmount() > 0) {
-                buffer = getTransmitterNetwork().lastFluid;
-            }
-            MechanicalPipe other = (MechanicalPipe) transmitter;
-            FluidStack otherBuffer = other.getBufferWithFallback();
-            if (otherBuffer.isEmpty() && other.hasTransmitterNetwork() && other.getTransmitterNetwork().getPrevTransferAmount() > 0) {
-                otherBuffer = other.getTransmitterNetwork().lastFluid;
-            }
+            FluidStack buffer = getCompatibilityBuffer();
+            FluidStack otherBuffer = ((MechanicalPipe) transmitter).getCompatibilityBuffer();
             return buffer.isEmpty() || otherBuffer.isEmpty() || buffer.isFluidEqual(otherBuffer);
         }
         return false;
     }
 
+    @Nullable
+    @Override
+    public Object getNetworkCompatibilityKey() {
+        return getCompatibilityKey(getCompatibilityBuffer());
+    }
+
+    /**
+     * Gets a copy of the given fluid with an amount of one to use as a compatibility key, as {@link FluidStack#hashCode()} includes the amount, and the amount of the
+     * buffer changes as it gets filled and drained.
+     */
+    @Nullable
+    static FluidStack getCompatibilityKey(FluidStack buffer) {
+        return buffer.isEmpty() ? null : new FluidStack(buffer, 1);
+    }
+
+    private FluidStack getCompatibilityBuffer() {
+        FluidStack buffer = getBufferWithFallback();
+        if (buffer.isEmpty() && hasTransmitterNetwork() && getTransmitterNetwork().getPrevTransferAmount() > 0) {
+            buffer = getTransmitterNetwork().lastFluid;
+        }
+        return buffer;
+    }
+
     @Override
     public FluidNetwork createEmptyNetwork() {
         return new FluidNetwork();
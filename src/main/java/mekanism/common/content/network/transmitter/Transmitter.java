@@ -65,6 +65,9 @@ public abstract class Transmitter<ACCEPTOR, NETWORK extends DynamicNetwork<ACCEP
     private boolean redstoneSet;
     private NETWORK theNetwork = null;
     private boolean orphaned = true;
+    //Snapshot of the network this transmitter was in when it was saved, see DynamicNetwork#getSnapshotId
+    private long savedSnapshotId;
+    private int savedSnapshotSize;
 
     public Transmitter(TileEntityTransmitter transmitterTile, TransmissionType... transmissionTypes) {
         this.transmitterTile = transmitterTile;
@@ -276,6 +279,18 @@ public abstract class Transmitter<ACCEPTOR, NETWORK extends DynamicNetwork<ACCEP
         return true;
     }
 
+    /**
+     * Gets a key representing which transmitters this transmitter is valid with when forming a network, so that compatibility can be checked against the keys
+     * already in a network instead of against every transmitter in it. Must match {@link #isValidTransmitter(Transmitter)}: two transmitters are valid with each other if
+     * either key is {@code null} or the keys are equal.
+     *
+     * @return The key, or {@code null} if this transmitter is valid with any transmitter of the same type.
+     */
+    @Nullable
+    public Object getNetworkCompatibilityKey() {
+        return null;
+    }
+
     public boolean canConnectToAcceptor(Direction side) {
         ConnectionType type = connectionTypes[side.ordinal()];
         return type == ConnectionType.NORMAL || type == ConnectionType.PUSH;
@@ -393,6 +408,8 @@ public abstract class Transmitter<ACCEPTOR, NETWORK extends DynamicNetwork<ACCEP
             int index = i;
             NBTUtils.setEnumIfPresent(nbtTags, NBTConstants.CONNECTION + index, ConnectionType::byIndexStatic, color -> connectionTypes[index] = color);
         }
+        savedSnapshotId = nbtTags.getLong(NBTConstants.NETWORK_SNAPSHOT);
+        savedSnapshotSize = nbtTags.getInt(NBTConstants.NETWORK_SNAPSHOT_SIZE);
     }
 
     @Nonnull
@@ -401,9 +418,38 @@ public abstract class Transmitter<ACCEPTOR, NETWORK extends DynamicNetwork<ACCEP
         for (int i = 0; i < EnumUtils.DIRECTIONS.length; i++) {
             nbtTags.putInt(NBTConstants.CONNECTION + i, connectionTypes[i].ordinal());
         }
+        if (hasTransmitterNetwork() && !theNetwork.isRemote()) {
+            long snapshotId = theNetwork.getSnapshotId();
+            if (snapshotId != 0) {
+                nbtTags.putLong(NBTConstants.NETWORK_SNAPSHOT, snapshotId);
+                nbtTags.putInt(NBTConstants.NETWORK_SNAPSHOT_SIZE, theNetwork.transmittersSize());
+            }
+        }
         return nbtTags;
     }
 
+    /**
+     * @return The snapshot id of the network this transmitter was in when it was saved, or {@code 0} if there is none.
+     */
+    public long getSavedSnapshotId() {
+        return savedSnapshotId;
+    }
+
+    /**
+     * @return The number of transmitters in the network this transmitter was in when it was saved.
+     */
+    public int getSavedSnapshotSize() {
+        return savedSnapshotSize;
+    }
+
+    /**
+     * Clears the saved network snapshot so that it only gets used when this transmitter is first loaded.
+     */
+    public void clearSavedSnapshot() {
+        savedSnapshotId = 0;
+        savedSnapshotSize = 0;
+    }
+
     private void recheckRedstone() {
         if (handlesRedstone()) {
             boolean previouslyPowered = redstonePowered;
@@ -1,8 +1,6 @@
 package mekanism.common.content.qio;
 
-import it.unimi.dsi.fastutil.objects.Object2LongMap.Entry;
 import mekanism.api.NBTConstants;
-import mekanism.common.lib.inventory.HashedItem;
 import mekanism.common.util.ItemDataUtils;
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.CompoundNBT;
@@ -12,36 +10,75 @@ import net.minecraftforge.common.util.Constants.NBT;
 public interface IQIODriveItem {
 
     default boolean hasStoredItemMap(ItemStack stack) {
-        return ItemDataUtils.hasData(stack, NBTConstants.QIO_ITEM_MAP, NBT.TAG_LIST);
+        return ItemDataUtils.hasData(stack, NBTConstants.QIO_ITEM_TYPES, NBT.TAG_LIST) || ItemDataUtils.hasData(stack, NBTConstants.QIO_ITEM_MAP, NBT.TAG_LIST);
     }
 
     default void loadItemMap(ItemStack stack, QIODriveData data) {
-        if (hasStoredItemMap(stack)) {
+        if (readStoredTypes(stack, data::loadStored)) {
+            //Stored in the legacy format, make sure that the next save converts it
+            data.markFullWrite();
+        }
+    }
+
+    default void writeItemMap(ItemStack stack, QIODriveData data) {
+        //Note: The types get updated in place, they are only changed here while saving
+        ListNBT types = ItemDataUtils.getList(stack, NBTConstants.QIO_ITEM_TYPES);
+        if (data.writeChanges(types)) {
+            writeStoredTypes(stack, types, data.getStoredCounts());
+        }
+    }
+
+    /**
+     * Reads the item types stored on a drive, supporting both the columnar format and the legacy format of one compound per type.
+     *
+     * @param stack    Drive stack.
+     * @param consumer Consumer for the serialized item type and the amount stored of it.
+     *
+     * @return {@code true} if the drive was stored in the legacy format.
+     */
+    static boolean readStoredTypes(ItemStack stack, StoredTypeConsumer consumer) {
+        if (ItemDataUtils.hasData(stack, NBTConstants.QIO_ITEM_TYPES, NBT.TAG_LIST)) {
+            ListNBT types = ItemDataUtils.getList(stack, NBTConstants.QIO_ITEM_TYPES);
+            long[] counts = ItemDataUtils.getLongArray(stack, NBTConstants.QIO_ITEM_COUNTS);
+            int size = Math.min(types.size(), counts.length);
+            for (int i = 0; i < size; i++) {
+                consumer.accept(types.getCompound(i), counts[i]);
+            }
+            return false;
+        } else if (ItemDataUtils.hasData(stack, NBTConstants.QIO_ITEM_MAP, NBT.TAG_LIST)) {
             ListNBT list = ItemDataUtils.getList(stack, NBTConstants.QIO_ITEM_MAP);
             for (int i = 0; i < list.size(); i++) {
                 CompoundNBT tag = list.getCompound(i);
-                ItemStack itemType = ItemStack.read(tag.getCompound(NBTConstants.ITEM));
-                long count = tag.getLong(NBTConstants.AMOUNT);
-                data.getItemMap().put(new HashedItem(itemType), count);
+                consumer.accept(tag.getCompound(NBTConstants.ITEM), tag.getLong(NBTConstants.AMOUNT));
             }
+            return true;
         }
+        return false;
     }
 
-    default void writeItemMap(ItemStack stack, QIODriveData map) {
-        ListNBT list = new ListNBT();
-        for (Entry<HashedItem> entry : map.getItemMap().object2LongEntrySet()) {
-            CompoundNBT tag = new CompoundNBT();
-            tag.put(NBTConstants.ITEM, entry.getKey().getStack().write(new CompoundNBT()));
-            tag.putLong(NBTConstants.AMOUNT, entry.getLongValue());
-            list.add(tag);
-        }
-        ItemDataUtils.setList(stack, NBTConstants.QIO_ITEM_MAP, list);
+    /**
+     * Writes the item types stored on a drive in the columnar format, removing any data stored in the legacy format.
+     *
+     * @param stack  Drive stack.
+     * @param types  Serialized item types.
+     * @param counts Amount stored of each type, in the same order as {@code types}.
+     */
+    static void writeStoredTypes(ItemStack stack, ListNBT types, long[] counts) {
+        ItemDataUtils.setList(stack, NBTConstants.QIO_ITEM_TYPES, types);
+        ItemDataUtils.setLongArray(stack, NBTConstants.QIO_ITEM_COUNTS, counts);
+        ItemDataUtils.removeData(stack, NBTConstants.QIO_ITEM_MAP);
     }
 
     long getCountCapacity(ItemStack stack);
 
     int getTypeCapacity(ItemStack stack);
 
+    @FunctionalInterface
+    interface StoredTypeConsumer {
+
+        void accept(CompoundNBT typeTag, long count);
+    }
+
     class DriveMetadata {
 
         private final long count;
@@ -57,6 +94,10 @@ public interface IQIODriveItem {
             ItemDataUtils.setInt(stack, NBTConstants.QIO_META_TYPES, types);
         }
 
+        public static boolean isPresent(ItemStack stack) {
+            return ItemDataUtils.hasData(stack, NBTConstants.QIO_META_COUNT, NBT.TAG_LONG) && ItemDataUtils.hasData(stack, NBTConstants.QIO_META_TYPES, NBT.TAG_INT);
+        }
+
         public static DriveMetadata load(ItemStack stack) {
             return new DriveMetadata(ItemDataUtils.getLong(stack, NBTConstants.QIO_META_COUNT), ItemDataUtils.getInt(stack, NBTConstants.QIO_META_TYPES));
         }
@@ -0,0 +1,25 @@
+package mekanism.common.content.qio;
+
+import mekanism.common.content.qio.QIOFrequency.QIOItemTypeData;
+import mekanism.common.lib.inventory.HashedItem;
+
+/**
+ * Listener for item types entering and leaving a {@link QIOFrequency}, for keeping derived views of its contents up to date without rescanning it.
+ */
+public interface IQIOItemListener {
+
+    /**
+     * Called when an item type starts being stored in the frequency. The given data stays up to date with the amount stored until the type is removed.
+     */
+    void onItemTypeAdded(QIOItemTypeData data);
+
+    /**
+     * Called when an item type is no longer stored in the frequency.
+     */
+    void onItemTypeRemoved(HashedItem type);
+
+    /**
+     * Called when previously reported types need to be reevaluated, for example because tags were reloaded.
+     */
+    void onItemTypesInvalidated();
+}
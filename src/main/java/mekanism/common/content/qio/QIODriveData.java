@@ -1,11 +1,21 @@
 package mekanism.common.content.qio;
 
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongList;
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
 import it.unimi.dsi.fastutil.objects.Object2LongMap;
 import it.unimi.dsi.fastutil.objects.Object2LongOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
 import mekanism.common.Mekanism;
 import mekanism.common.content.qio.IQIODriveItem.DriveMetadata;
 import mekanism.common.lib.inventory.HashedItem;
 import net.minecraft.item.ItemStack;
+import net.minecraft.nbt.CompoundNBT;
+import net.minecraft.nbt.ListNBT;
 
 public class QIODriveData {
 
@@ -14,20 +24,57 @@ public class QIODriveData {
     private final int typeCapacity;
     private final Object2LongMap<HashedItem> itemMap = new Object2LongOpenHashMap<>();
     private long itemCount;
+    private int itemTypes;
+    private boolean loaded;
+
+    //Persisted layout of the drive's item map, only the types in dirtyTypes get reserialized when saving. The serialized types themselves only live in the drive
+    // stack's NBT, so that we don't keep a second copy of them
+    private final LongList storedCounts = new LongArrayList();
+    private final List<HashedItem> storedKeys = new ArrayList<>();
+    private final Object2IntMap<HashedItem> storedIndices = new Object2IntOpenHashMap<>();
+    private final Set<HashedItem> dirtyTypes = new ObjectOpenHashSet<>();
+    private boolean requiresFullWrite;
 
     public QIODriveData(QIODriveKey key) {
         this.key = key;
+        storedIndices.defaultReturnValue(-1);
         ItemStack stack = key.getDriveStack();
         IQIODriveItem item = (IQIODriveItem) stack.getItem();
         // load capacity values
         countCapacity = item.getCountCapacity(stack);
         typeCapacity = item.getTypeCapacity(stack);
-        // load item map from drive stack
-        item.loadItemMap(stack, this);
-        // update cached item count value
-        itemCount = itemMap.values().stream().mapToLong(Long::longValue).sum();
+        if (DriveMetadata.isPresent(stack)) {
+            // only load the metadata for now, the item map gets loaded the first time something needs it
+            DriveMetadata meta = DriveMetadata.load(stack);
+            itemCount = meta.getCount();
+            itemTypes = meta.getTypes();
+        } else {
+            load();
+        }
+    }
 
-        key.updateMetadata(this);
+    /**
+     * @return {@code true} if the item map has been read from the drive stack.
+     */
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    /**
+     * Reads the item map from the drive stack if it hasn't been read yet.
+     */
+    public void load() {
+        if (!loaded) {
+            loaded = true;
+            ItemStack stack = key.getDriveStack();
+            // load item map from drive stack
+            ((IQIODriveItem) stack.getItem()).loadItemMap(stack, this);
+            // update cached item count value
+            itemCount = itemMap.values().stream().mapToLong(Long::longValue).sum();
+            itemTypes = itemMap.size();
+
+            key.updateMetadata(this);
+        }
     }
 
     public long add(HashedItem type, long amount) {
@@ -39,6 +86,8 @@ public class QIODriveData {
         long toAdd = Math.min(amount, countCapacity - itemCount);
         itemMap.put(type, stored + toAdd);
         itemCount += toAdd;
+        itemTypes = itemMap.size();
+        dirtyTypes.add(type);
         key.updateMetadata(this);
         key.dataUpdate();
         return amount - toAdd;
@@ -53,6 +102,8 @@ public class QIODriveData {
             itemMap.removeLong(type);
         }
         itemCount -= ret.getCount();
+        itemTypes = itemMap.size();
+        dirtyTypes.add(type);
         key.updateMetadata(this);
         key.dataUpdate();
         return ret;
@@ -83,7 +134,92 @@ public class QIODriveData {
     }
 
     public int getTotalTypes() {
-        return itemMap.size();
+        return itemTypes;
+    }
+
+    void loadStored(CompoundNBT typeTag, long count) {
+        HashedItem type = new HashedItem(ItemStack.read(typeTag));
+        if (storedIndices.containsKey(type)) {
+            //Duplicate entry, merge it into the existing one and rewrite it the next time we save
+            itemMap.put(type, itemMap.getLong(type) + count);
+            dirtyTypes.add(type);
+        } else {
+            itemMap.put(type, count);
+            addStored(type, count);
+        }
+    }
+
+    void markFullWrite() {
+        requiresFullWrite = true;
+    }
+
+    /**
+     * Applies any changes made since the last save to the persisted layout.
+     *
+     * @param storedTypes The serialized types stored on the drive, gets updated to match the persisted layout. If it does not match the layout the types were loaded
+     *                    with, everything gets written again.
+     *
+     * @return {@code true} if the persisted layout changed and needs to be written to the drive.
+     */
+    boolean writeChanges(ListNBT storedTypes) {
+        if (requiresFullWrite || storedTypes.size() != storedKeys.size()) {
+            storedTypes.clear();
+            storedCounts.clear();
+            storedKeys.clear();
+            storedIndices.clear();
+            for (Object2LongMap.Entry<HashedItem> entry : itemMap.object2LongEntrySet()) {
+                HashedItem type = entry.getKey();
+                addStored(type, entry.getLongValue());
+                storedTypes.add(type.getStack().write(new CompoundNBT()));
+            }
+            requiresFullWrite = false;
+            dirtyTypes.clear();
+            return true;
+        } else if (dirtyTypes.isEmpty()) {
+            return false;
+        }
+        for (HashedItem type : dirtyTypes) {
+            long count = itemMap.getLong(type);
+            int index = storedIndices.getInt(type);
+            if (count > 0) {
+                if (index == -1) {
+                    addStored(type, count);
+                    storedTypes.add(type.getStack().write(new CompoundNBT()));
+                } else {
+                    storedCounts.set(index, count);
+                }
+            } else if (index != -1) {
+                removeStored(storedTypes, index);
+            }
+        }
+        dirtyTypes.clear();
+        return true;
+    }
+
+    private void addStored(HashedItem type, long count) {
+        storedIndices.put(type, storedKeys.size());
+        storedKeys.add(type);
+        storedCounts.add(count);
+    }
+
+    private void removeStored(ListNBT storedTypes, int index) {
+        //Swap the last entry into the removed entry's position so that we don't have to shift the remaining entries
+        int last = storedKeys.size() - 1;
+        storedIndices.removeInt(storedKeys.get(index));
+        if (index != last) {
+            HashedItem moved = storedKeys.get(last);
+            storedKeys.set(index, moved);
+            storedTypes.set(index, storedTypes.get(last));
+            storedCounts.set(index, storedCounts.getLong(last));
+            storedIndices.put(moved, index);
+        }
+        storedKeys.remove(last);
+        storedTypes.remove(last);
+        storedCounts.removeLong(last);
+    }
+
+    long[] getStoredCounts() {
+        return storedCounts.toLongArray();
     }
 
     public static class QIODriveKey {
@@ -97,7 +233,10 @@ public class QIODriveData {
         }
 
         public void save(QIODriveData data) {
-            holder.save(driveSlot, data);
+            if (data.isLoaded()) {
+                // if the item map was never loaded, the drive stack already holds the latest data
+                holder.save(driveSlot, data);
+            }
         }
 
         public void dataUpdate() {
@@ -110,7 +249,7 @@ public class QIODriveData {
                 Mekanism.logger.error("Tried to update QIO meta values on an invalid ItemStack. Something has gone very wrong!");
                 return;
             }
-            DriveMetadata meta = new DriveMetadata(data.itemCount, data.itemMap.size());
+            DriveMetadata meta = new DriveMetadata(data.itemCount, data.itemTypes);
             meta.write(stack);
         }
 
@@ -8,6 +8,7 @@ import java.text.NumberFormat;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Random;
 import java.util.Set;
@@ -25,6 +26,8 @@ import mekanism.common.lib.WildcardMatcher;
 import mekanism.common.lib.frequency.Frequency;
 import mekanism.common.lib.frequency.FrequencyType;
 import mekanism.common.lib.inventory.HashedItem;
+import mekanism.common.lib.perf.PerfSection;
+import mekanism.common.lib.perf.PerfTracker;
 import mekanism.common.network.PacketQIOItemViewerGuiSync;
 import mekanism.common.util.NBTUtils;
 import net.minecraft.entity.player.ServerPlayerEntity;
@@ -41,6 +44,8 @@ public class QIOFrequency extends Frequency {
     private final Map<QIODriveKey, QIODriveData> driveMap = new LinkedHashMap<>();
     private final Map<HashedItem, QIOItemTypeData> itemDataMap = new LinkedHashMap<>();
     private final Set<IQIODriveHolder> driveHolders = new HashSet<>();
+    // drives that have only registered their metadata, their item maps get merged in the first time the item data is needed
+    private final Set<QIODriveKey> pendingDrives = new LinkedHashSet<>();
     // efficiently keep track of the tags utilized by the items stored
     private final BiMultimap<String, HashedItem> tagLookupMap = new BiMultimap<>();
     // a sensitive cache for wildcard tag lookups (wildcard -> [matching tags])
@@ -48,14 +53,20 @@ public class QIOFrequency extends Frequency {
 
     private final Set<HashedItem> updatedItems = new HashSet<>();
     private final Set<ServerPlayerEntity> playersViewingItems = new HashSet<>();
+    private final Set<IQIOItemListener> itemListeners = new HashSet<>();
 
     /** If we need to send a packet to viewing clients with changed item data. */
     private boolean needsUpdate;
     /** If we have new item changes that haven't been saved. */
     private boolean isDirty;
+    /** Incremented every time the stored items change. */
+    private long itemChangeCount;
 
     private long totalCount, totalCountCapacity;
     private int totalTypeCapacity;
+    // number of types in the drives that haven't been merged in yet, taken from their metadata. Types that are in more than one drive get counted once per drive
+    // until the drives get merged in
+    private int pendingTypes;
     // only used on client side, for server side we can just look at itemDataMap.size()
     private int clientTypes;
 
@@ -75,10 +86,19 @@ public class QIOFrequency extends Frequency {
      * @return core item data map, tracking item types + their respective counts and containing drives
      */
     public Map<HashedItem, QIOItemTypeData> getItemDataMap() {
+        loadPendingDrives();
         return itemDataMap;
     }
 
     public ItemStack addItem(ItemStack stack) {
+        long start = PerfTracker.start();
+        ItemStack remainder = addItemInternal(stack);
+        PerfTracker.end(PerfSection.QIO_OPERATION, start);
+        return remainder;
+    }
+
+    private ItemStack addItemInternal(ItemStack stack) {
+        loadPendingDrives();
         HashedItem type = new HashedItem(stack);
         // these checks are extremely important; they prevent us from wasting CPU searching for a place to put the new items,
         // and they also prevent us from adding a ghost type to the itemDataMap if nothing is inserted
@@ -89,7 +109,7 @@ public class QIOFrequency extends Frequency {
         QIOItemTypeData data = itemDataMap.computeIfAbsent(type, t -> {
             tagLookupMap.putAll(TagCache.getItemTags(stack), t);
             tagWildcardCache.clear();
-            return new QIOItemTypeData(t);
+            return createTypeData(t);
         });
         return type.createStack((int) data.add(stack.getCount()));
     }
@@ -103,6 +123,14 @@ public class QIOFrequency extends Frequency {
     }
 
     public ItemStack removeByType(@Nullable HashedItem itemType, int amount) {
+        long start = PerfTracker.start();
+        ItemStack removed = removeByTypeInternal(itemType, amount);
+        PerfTracker.end(PerfSection.QIO_OPERATION, start);
+        return removed;
+    }
+
+    private ItemStack removeByTypeInternal(@Nullable HashedItem itemType, int amount) {
+        loadPendingDrives();
         if (itemDataMap.isEmpty()) {
             return ItemStack.EMPTY;
         }
@@ -125,11 +153,14 @@ public class QIOFrequency extends Frequency {
             itemDataMap.remove(data.itemType);
             tagLookupMap.removeValue(data.itemType);
             tagWildcardCache.clear();
+            HashedItem removedType = data.itemType;
+            itemListeners.forEach(listener -> listener.onItemTypeRemoved(removedType));
         }
         return removed;
     }
 
     public Object2LongMap<HashedItem> getStacksByTag(String tag) {
+        loadPendingDrives();
         Set<HashedItem> items = tagLookupMap.getValues(tag);
         Object2LongMap<HashedItem> ret = new Object2LongOpenHashMap<>();
         items.forEach(item -> ret.put(item, getStored(item)));
@@ -137,6 +168,7 @@ public class QIOFrequency extends Frequency {
     }
 
     public Object2LongMap<HashedItem> getStacksByWildcard(String wildcard) {
+        loadPendingDrives();
         if (!tagWildcardCache.containsKey(wildcard)) {
             buildWildcardMapping(wildcard);
         }
@@ -154,7 +186,25 @@ public class QIOFrequency extends Frequency {
         }
     }
 
+    private QIOItemTypeData createTypeData(HashedItem type) {
+        QIOItemTypeData data = new QIOItemTypeData(type);
+        itemListeners.forEach(listener -> listener.onItemTypeAdded(data));
+        return data;
+    }
+
+    /**
+     * Subscribes the given listener to item types entering and leaving this frequency. Listeners are not told about types already stored when they subscribe.
+     */
+    public void addItemListener(IQIOItemListener listener) {
+        itemListeners.add(listener);
+    }
+
+    public void removeItemListener(IQIOItemListener listener) {
+        itemListeners.remove(listener);
+    }
+
     public void openItemViewer(ServerPlayerEntity player) {
+        loadPendingDrives();
         playersViewingItems.add(player);
         Object2LongMap<HashedItem> map = new Object2LongOpenHashMap<>();
         itemDataMap.values().forEach(d -> map.put(d.itemType, d.count));
@@ -183,7 +233,10 @@ public class QIOFrequency extends Frequency {
     }
 
     public int getTotalItemTypes(boolean remote) {
-        return remote ? clientTypes : itemDataMap.size();
+        if (remote) {
+            return clientTypes;
+        }
+        return itemDataMap.size() + pendingTypes;
     }
 
     public int getTotalItemTypeCapacity() {
@@ -191,10 +244,19 @@ public class QIOFrequency extends Frequency {
     }
 
     public long getStored(HashedItem itemType) {
+        loadPendingDrives();
         QIOItemTypeData data = itemDataMap.get(itemType);
         return data != null ? data.count : 0;
     }
 
+    /**
+     * Gets a counter that changes every time the items stored in this frequency change, allowing callers to cheaply check if anything changed since they last
+     * looked.
+     */
+    public long getItemChangeCount() {
+        return itemChangeCount;
+    }
+
     public QIODriveData getDriveData(QIODriveKey key) {
         return driveMap.get(key);
     }
@@ -227,6 +289,7 @@ public class QIOFrequency extends Frequency {
             tagLookupMap.clear();
             tagWildcardCache.clear();
             itemDataMap.values().forEach(item -> tagLookupMap.putAll(TagCache.getItemTags(item.itemType.getStack()), item.itemType));
+            itemListeners.forEach(IQIOItemListener::onItemTypesInvalidated);
         }
     }
 
@@ -262,6 +325,10 @@ public class QIOFrequency extends Frequency {
         Set<QIODriveKey> keys = new HashSet<>(driveMap.keySet());
         keys.forEach(key -> removeDrive(key, false));
         driveMap.clear();
+        pendingDrives.clear();
+        pendingTypes = 0;
+        itemListeners.forEach(IQIOItemListener::onItemTypesInvalidated);
+        itemListeners.clear();
         playersViewingItems.forEach(player -> Mekanism.packetHandler.sendTo(PacketQIOItemViewerGuiSync.kill(), player));
     }
 
@@ -270,7 +337,7 @@ public class QIOFrequency extends Frequency {
         int code = super.getSyncHash();
         code = 31 * code + Long.hashCode(totalCount);
         code = 31 * code + Long.hashCode(totalCountCapacity);
-        code = 31 * code + itemDataMap.size();
+        code = 31 * code + getTotalItemTypes(false);
         code = 31 * code + totalTypeCapacity;
         code = 31 * code + color.ordinal();
         return code;
@@ -281,7 +348,7 @@ public class QIOFrequency extends Frequency {
         super.write(buf);
         buf.writeVarLong(totalCount);
         buf.writeVarLong(totalCountCapacity);
-        buf.writeVarInt(itemDataMap.size());
+        buf.writeVarInt(getTotalItemTypes(false));
         buf.writeVarInt(totalTypeCapacity);
         buf.writeEnumValue(color);
     }
@@ -319,24 +386,65 @@ public class QIOFrequency extends Frequency {
             totalCountCapacity += data.getCountCapacity();
             totalTypeCapacity += data.getTypeCapacity();
             driveMap.put(key, data);
-            data.getItemMap().forEach((storedKey, value) -> {
-                itemDataMap.computeIfAbsent(storedKey, e -> {
-                    tagWildcardCache.clear();
-                    tagLookupMap.putAll(TagCache.getItemTags(storedKey.getStack()), storedKey);
-                    return new QIOItemTypeData(storedKey);
-                }).addFromDrive(data, value);
-                updatedItems.add(storedKey);
-            });
+            if (data.isLoaded()) {
+                mergeDrive(data);
+            } else {
+                // only track the totals for now, the item map gets merged in once something needs it
+                totalCount += data.getTotalCount();
+                pendingTypes += data.getTotalTypes();
+                pendingDrives.add(key);
+            }
             setNeedsUpdate();
         }
     }
 
+    private void mergeDrive(QIODriveData data) {
+        data.getItemMap().forEach((storedKey, value) -> {
+            itemDataMap.computeIfAbsent(storedKey, e -> {
+                tagWildcardCache.clear();
+                tagLookupMap.putAll(TagCache.getItemTags(storedKey.getStack()), storedKey);
+                return createTypeData(storedKey);
+            }).addFromDrive(data, value);
+            updatedItems.add(storedKey);
+        });
+    }
+
+    /**
+     * Loads and merges in the item maps of any drives that have only registered their metadata so far.
+     */
+    private void loadPendingDrives() {
+        if (!pendingDrives.isEmpty()) {
+            // take the drives out of the pending set before merging, item listeners get notified while merging and may access the item data again
+            QIODriveKey[] toLoad = pendingDrives.toArray(new QIODriveKey[0]);
+            pendingDrives.clear();
+            for (QIODriveKey key : toLoad) {
+                QIODriveData data = driveMap.get(key);
+                if (data == null) {
+                    // the drive got removed by a listener while merging an earlier drive
+                    continue;
+                }
+                // remove the metadata totals, merging the drive adds back the actual amounts
+                totalCount -= data.getTotalCount();
+                pendingTypes -= data.getTotalTypes();
+                data.load();
+                mergeDrive(data);
+            }
+        }
+    }
+
     public void removeDrive(QIODriveKey key, boolean updateItemMap) {
         if (!driveMap.containsKey(key)) {
             return;
         }
         QIODriveData data = driveMap.get(key);
-        if (updateItemMap) {
+        if (pendingDrives.remove(key)) {
+            // the item map was never merged in, so we only need to remove the totals
+            if (updateItemMap) {
+                totalCount -= data.getTotalCount();
+                pendingTypes -= data.getTotalTypes();
+                setNeedsUpdate();
+            }
+        } else if (updateItemMap) {
             data.getItemMap().forEach((storedKey, value) -> {
                 QIOItemTypeData itemData = itemDataMap.get(storedKey);
                 if (itemData != null) {
@@ -347,6 +455,7 @@ public class QIOFrequency extends Frequency {
                     if (itemData.containingDrives.isEmpty() || itemData.count == 0) {
                         itemDataMap.remove(storedKey);
                         tagWildcardCache.clear();
+                        itemListeners.forEach(listener -> listener.onItemTypeRemoved(storedKey));
                     }
                     updatedItems.add(storedKey);
                 }
@@ -379,6 +488,7 @@ public class QIOFrequency extends Frequency {
     private void setNeedsUpdate(@Nullable HashedItem changedItem) {
         needsUpdate = true;
         isDirty = true;
+        itemChangeCount++;
         if (changedItem != null) {
             updatedItems.add(changedItem);
         }
@@ -466,6 +576,10 @@ public class QIOFrequency extends Frequency {
             return ret;
         }
 
+        public HashedItem getItemType() {
+            return itemType;
+        }
+
         public long getCount() {
             return count;
         }
@@ -23,6 +23,8 @@ import mekanism.common.content.transporter.TransporterPathfinder.Pathfinder.Dest
 import mekanism.common.content.transporter.TransporterStack.Path;
 import mekanism.common.lib.inventory.TransitRequest;
 import mekanism.common.lib.inventory.TransitRequest.TransitResponse;
+import mekanism.common.lib.perf.PerfSection;
+import mekanism.common.lib.perf.PerfTracker;
 import mekanism.common.tile.TileEntityLogisticalSorter;
 import mekanism.common.tile.transmitter.TileEntityLogisticalTransporterBase;
 import mekanism.common.util.EnumUtils;
@@ -38,6 +40,15 @@ import org.apache.commons.lang3.tuple.Pair;
 public final class TransporterPathfinder {
 
     private static List<Destination> getPaths(LogisticalTransporterBase start, TransporterStack stack, TransitRequest request, int min) {
+        long perfStart = PerfTracker.start();
+        try {
+            return findPaths(start, stack, request, min);
+        } finally {
+            PerfTracker.end(PerfSection.TRANSPORTER_PATHFIND, perfStart);
+        }
+    }
+
+    private static List<Destination> findPaths(LogisticalTransporterBase start, TransporterStack stack, TransitRequest request, int min) {
         InventoryNetwork network = start.getTransmitterNetwork();
         if (network == null) {
             return Collections.emptyList();
@@ -134,6 +145,15 @@ public final class TransporterPathfinder {
     }
 
     public static Pair<List<BlockPos>, Path> getIdlePath(LogisticalTransporterBase start, TransporterStack stack) {
+        long perfStart = PerfTracker.start();
+        try {
+            return findIdlePath(start, stack);
+        } finally {
+            PerfTracker.end(PerfSection.TRANSPORTER_PATHFIND, perfStart);
+        }
+    }
+
+    private static Pair<List<BlockPos>, Path> findIdlePath(LogisticalTransporterBase start, TransporterStack stack) {
         Long2ObjectMap<IChunk> chunkMap = new Long2ObjectOpenHashMap<>();
         if (stack.homeLocation != null) {
             Pathfinder p = new Pathfinder(new DestChecker() {
@@ -2,6 +2,8 @@ package mekanism.common.content.transporter;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.IntFunction;
+import java.util.function.ToIntFunction;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import mekanism.api.NBTConstants;
@@ -13,8 +15,10 @@ import mekanism.common.lib.inventory.TransitRequest;
 import mekanism.common.lib.inventory.TransitRequest.TransitResponse;
 import mekanism.common.tile.TileEntityLogisticalSorter;
 import mekanism.common.tile.transmitter.TileEntityLogisticalTransporterBase;
+import mekanism.common.util.EnumUtils;
 import mekanism.common.util.MekanismUtils;
 import mekanism.common.util.NBTUtils;
+import mekanism.common.util.StackUtils;
 import mekanism.common.util.TransporterUtils;
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.CompoundNBT;
@@ -57,40 +61,73 @@ public class TransporterStack {
         return stack;
     }
 
-    public static TransporterStack readFromPacket(PacketBuffer dataStream) {
+    public static TransporterStack readFromPacket(BlockPos pos, PacketBuffer dataStream, IntFunction<ItemStack> itemTypes) {
         TransporterStack stack = new TransporterStack();
-        stack.read(dataStream);
+        stack.read(pos, dataStream, itemTypes);
         if (stack.progress == 0) {
             stack.progress = 5;
         }
         return stack;
     }
 
-    public void write(LogisticalTransporterBase transporter, PacketBuffer buf) {
+    /**
+     * Writes this stack for syncing to the client. Positions are written relative to the transporter, and the item is written as an index into the item types that
+     * the packet syncs separately.
+     *
+     * @param itemIndex Looks up the index of the item type of the given stack.
+     */
+    public void write(LogisticalTransporterBase transporter, PacketBuffer buf, ToIntFunction<ItemStack> itemIndex) {
+        BlockPos pos = transporter.getTilePos();
         buf.writeVarInt(TransporterUtils.getColorIndex(color));
         buf.writeVarInt(progress);
-        buf.writeBlockPos(originalLocation);
+        writeRelativePos(buf, pos, originalLocation);
         buf.writeEnumValue(pathType);
-        if (pathToTarget.indexOf(transporter.getTilePos()) > 0) {
+        if (pathToTarget.indexOf(pos) > 0) {
             buf.writeBoolean(true);
-            buf.writeBlockPos(getNext(transporter));
+            writeRelativePos(buf, pos, getNext(transporter));
         } else {
             buf.writeBoolean(false);
         }
-        buf.writeBlockPos(getPrev(transporter));
-        buf.writeItemStack(itemStack);
+        writeRelativePos(buf, pos, getPrev(transporter));
+        buf.writeVarInt(itemIndex.applyAsInt(itemStack));
+        buf.writeVarInt(itemStack.getCount());
     }
 
-    public void read(PacketBuffer dataStream) {
+    public void read(BlockPos pos, PacketBuffer dataStream, IntFunction<ItemStack> itemTypes) {
         color = TransporterUtils.readColor(dataStream.readVarInt());
         progress = dataStream.readVarInt();
-        originalLocation = dataStream.readBlockPos();
+        originalLocation = readRelativePos(dataStream, pos);
         pathType = dataStream.readEnumValue(Path.class);
         if (dataStream.readBoolean()) {
-            clientNext = dataStream.readBlockPos();
+            clientNext = readRelativePos(dataStream, pos);
+        }
+        clientPrev = readRelativePos(dataStream, pos);
+        itemStack = StackUtils.size(itemTypes.apply(dataStream.readVarInt()), dataStream.readVarInt());
+    }
+
+    /**
+     * Writes a position as the direction it is in from the origin if it is adjacent, falling back to the full position if it is not.
+     */
+    private static void writeRelativePos(PacketBuffer buf, BlockPos origin, BlockPos pos) {
+        int xOffset = pos.getX() - origin.getX();
+        int yOffset = pos.getY() - origin.getY();
+        int zOffset = pos.getZ() - origin.getZ();
+        for (Direction direction : EnumUtils.DIRECTIONS) {
+            if (direction.getXOffset() == xOffset && direction.getYOffset() == yOffset && direction.getZOffset() == zOffset) {
+                buf.writeByte(direction.ordinal());
+                return;
+            }
+        }
+        buf.writeByte(EnumUtils.DIRECTIONS.length);
+        buf.writeBlockPos(pos);
+    }
+
+    private static BlockPos readRelativePos(PacketBuffer buf, BlockPos origin) {
+        byte direction = buf.readByte();
+        if (direction < EnumUtils.DIRECTIONS.length) {
+            return origin.offset(EnumUtils.DIRECTIONS[direction]);
         }
-        clientPrev = dataStream.readBlockPos();
-        itemStack = dataStream.readItemStack();
+        return buf.readBlockPos();
     }
 
     public void writeToUpdateTag(LogisticalTransporterBase transporter, CompoundNBT updateTag) {
@@ -1,8 +1,11 @@
 package mekanism.common.integration.energy;
 
+import java.lang.ref.WeakReference;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
 import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -10,15 +13,23 @@ import mekanism.api.energy.IStrictEnergyHandler;
 import mekanism.api.math.FloatingLong;
 import mekanism.api.math.FloatingLongSupplier;
 import mekanism.common.Mekanism;
+import mekanism.common.capabilities.NeighborCapabilityCache;
 import mekanism.common.config.MekanismConfig;
 import mekanism.common.integration.energy.forgeenergy.ForgeEnergyCompat;
+import mekanism.common.util.CapabilityUtils;
+import mekanism.common.util.EnumUtils;
 import mekanism.common.util.MekanismUtils;
 import net.minecraft.item.ItemStack;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.Direction;
+import net.minecraft.world.IWorld;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.chunk.IChunk;
 import net.minecraftforge.common.capabilities.Capability;
 import net.minecraftforge.common.capabilities.ICapabilityProvider;
 import net.minecraftforge.common.util.LazyOptional;
+import net.minecraftforge.event.world.ChunkEvent;
+import net.minecraftforge.event.world.WorldEvent;
 
 public class EnergyCompatUtils {
 
@@ -29,6 +40,17 @@ public class EnergyCompatUtils {
           //new FNEnergyCompat(),//TODO - FluxNetworks
           new ForgeEnergyCompat()
     ));
+    /**
+     * Wrappers of non strict energy capabilities by tile and side, with the null side stored at the end. Entries are removed when the wrapped capability is
+     * invalidated, when the tile's chunk or world unloads, or when the tile is found to have been removed, as the wrapped capability may keep the tile strongly
+     * reachable.
+     */
+    private static final Map<TileEntity, WrappedHandler[]> wrappedHandlers = new WeakHashMap<>();
+    /**
+     * How many tiles get added to {@link #wrappedHandlers} between checks for removed tiles that never invalidated their capabilities.
+     */
+    private static final int PRUNE_INTERVAL = 256;
+    private static int tilesSincePrune;
 
     public static List<IEnergyCompat> getCompats() {
         return energyCompats;
@@ -89,15 +111,128 @@ public class EnergyCompatUtils {
         return stack.isEmpty() ? LazyOptional.empty() : getLazyStrictEnergyHandler(stack, null);
     }
 
+    /**
+     * Gets the strict energy handler for the given side of a tile. Handlers of other energy types get wrapped into an {@link IStrictEnergyHandler} once and then the
+     * wrapper is reused until the capability it wraps gets invalidated.
+     */
     @Nonnull
-    public static LazyOptional<IStrictEnergyHandler> getLazyStrictEnergyHandler(@Nullable TileEntity tile, Direction side) {
-        return isTileValid(tile) ? getLazyStrictEnergyHandler((ICapabilityProvider) tile, side) : LazyOptional.empty();
+    public static LazyOptional<IStrictEnergyHandler> getLazyStrictEnergyHandler(@Nullable TileEntity tile, @Nullable Direction side) {
+        if (isTileValid(tile)) {
+            for (IEnergyCompat energyCompat : energyCompats) {
+                if (energyCompat.isUsable()) {
+                    //Note: Capability should not be null due to us validating the compat is usable
+                    LazyOptional<?> capability = CapabilityUtils.getCapability(tile, energyCompat.getCapability(), side);
+                    if (capability.isPresent()) {
+                        return wrapAsStrictEnergyHandler(tile, side, energyCompat, capability);
+                    }
+                }
+            }
+        }
+        return LazyOptional.empty();
     }
 
+    /**
+     * Gets the strict energy handler of the neighbor on the given side, looking up its capabilities through the given cache.
+     *
+     * @param neighbors Cache of the neighbors of the tile that wants the handler
+     * @param side      Side of the tile the neighbor is on
+     */
     @Nonnull
-    private static LazyOptional<IStrictEnergyHandler> getLazyStrictEnergyHandler(ICapabilityProvider provider, Direction side) {
-        //TODO: Eventually look into making it so that we cache the handler we get back. Maybe by passing a listener
-        // to this that we can give to the capability as we wrap the result into
+    public static LazyOptional<IStrictEnergyHandler> getLazyStrictEnergyHandler(NeighborCapabilityCache neighbors, Direction side) {
+        for (IEnergyCompat energyCompat : energyCompats) {
+            if (energyCompat.isUsable()) {
+                //Note: Capability should not be null due to us validating the compat is usable
+                LazyOptional<?> capability = neighbors.getCapability(side, energyCompat.getCapability());
+                if (capability.isPresent()) {
+                    //Note: The neighbor can't be null as we got a capability from it
+                    return wrapAsStrictEnergyHandler(neighbors.getNeighbor(side), side.getOpposite(), energyCompat, capability);
+                }
+            }
+        }
+        return LazyOptional.empty();
+    }
+
+    /**
+     * Wraps the given capability that was retrieved from the given side of a tile into a lazy optional {@link IStrictEnergyHandler}, reusing the wrapper from the last
+     * time the same capability was wrapped if there is one.
+     *
+     * @param tile         Tile the capability was retrieved from
+     * @param side         Side the capability was retrieved from
+     * @param energyCompat Compat the capability is for
+     * @param capability   Present lazy optional of the compat's capability
+     */
+    @Nonnull
+    public static LazyOptional<IStrictEnergyHandler> wrapAsStrictEnergyHandler(TileEntity tile, @Nullable Direction side, IEnergyCompat energyCompat,
+          LazyOptional<?> capability) {
+        if (energyCompat instanceof StrictEnergyCompat) {
+            //Our lazy optional is already the proper type so there is nothing to wrap
+            return capability.cast();
+        }
+        int index = side == null ? EnumUtils.DIRECTIONS.length : side.ordinal();
+        WrappedHandler wrappedHandler;
+        synchronized (wrappedHandlers) {
+            if (tile.isRemoved()) {
+                //Don't cache anything for tiles that have been removed, they may never invalidate their capabilities
+                wrappedHandlers.remove(tile);
+                return energyCompat.wrapAsStrictEnergyHandler(capability);
+            }
+            WrappedHandler[] tileHandlers = wrappedHandlers.get(tile);
+            if (tileHandlers == null) {
+                if (++tilesSincePrune >= PRUNE_INTERVAL) {
+                    tilesSincePrune = 0;
+                    wrappedHandlers.keySet().removeIf(TileEntity::isRemoved);
+                }
+                tileHandlers = new WrappedHandler[EnumUtils.DIRECTIONS.length + 1];
+                wrappedHandlers.put(tile, tileHandlers);
+            }
+            wrappedHandler = tileHandlers[index];
+            if (wrappedHandler != null && wrappedHandler.capability == capability) {
+                return wrappedHandler.handler;
+            }
+            wrappedHandler = new WrappedHandler(capability, energyCompat.wrapAsStrictEnergyHandler(capability));
+            tileHandlers[index] = wrappedHandler;
+        }
+        //Once the capability we wrapped gets invalidated, invalidate our wrapper as well and stop caching it. The listener only holds a weak reference to
+        // the tile as the listener is stored in the capability for as long as the capability is valid
+        WeakReference<TileEntity> tileReference = new WeakReference<>(tile);
+        WrappedHandler listenerHandler = wrappedHandler;
+        CapabilityUtils.addListener(capability, invalidated -> {
+            TileEntity cachedTile = tileReference.get();
+            if (cachedTile != null) {
+                synchronized (wrappedHandlers) {
+                    WrappedHandler[] tileHandlers = wrappedHandlers.get(cachedTile);
+                    if (tileHandlers != null && tileHandlers[index] == listenerHandler) {
+                        tileHandlers[index] = null;
+                    }
+                }
+            }
+            listenerHandler.handler.invalidate();
+        });
+        return wrappedHandler.handler;
+    }
+
+    public static void onChunkUnload(ChunkEvent.Unload event) {
+        IChunk chunk = event.getChunk();
+        if (chunk instanceof Chunk) {
+            synchronized (wrappedHandlers) {
+                if (!wrappedHandlers.isEmpty()) {
+                    for (TileEntity tile : ((Chunk) chunk).getTileEntityMap().values()) {
+                        wrappedHandlers.remove(tile);
+                    }
+                }
+            }
+        }
+    }
+
+    public static void onWorldUnload(WorldEvent.Unload event) {
+        IWorld world = event.getWorld();
+        synchronized (wrappedHandlers) {
+            wrappedHandlers.keySet().removeIf(tile -> tile.getWorld() == world);
+        }
+    }
+
+    @Nonnull
+    private static LazyOptional<IStrictEnergyHandler> getLazyStrictEnergyHandler(ICapabilityProvider provider, @Nullable Direction side) {
         for (IEnergyCompat energyCompat : energyCompats) {
             if (energyCompat.isUsable()) {
                 LazyOptional<IStrictEnergyHandler> handler = energyCompat.getLazyStrictEnergyHandler(provider, side);
@@ -138,6 +273,17 @@ public class EnergyCompatUtils {
         return Mekanism.hooks.IC2Loaded/* && EnergyNet.instance != null*/ && !MekanismConfig.general.blacklistIC2.get();
     }
 
+    private static class WrappedHandler {
+
+        private final LazyOptional<?> capability;
+        private final LazyOptional<IStrictEnergyHandler> handler;
+
+        private WrappedHandler(LazyOptional<?> capability, LazyOptional<IStrictEnergyHandler> handler) {
+            this.capability = capability;
+            this.handler = handler;
+        }
+    }
+
     public enum EnergyType {
         FORGE(MekanismConfig.general.FROM_FORGE, MekanismConfig.general.TO_FORGE),
         EU(MekanismConfig.general.FROM_IC2, MekanismConfig.general.TO_IC2);
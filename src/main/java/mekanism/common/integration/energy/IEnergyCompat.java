@@ -71,4 +71,14 @@ public interface IEnergyCompat {
      */
     @Nonnull
     LazyOptional<IStrictEnergyHandler> getLazyStrictEnergyHandler(ICapabilityProvider provider, @Nullable Direction side);
+
+    /**
+     * Wraps a lazy optional of this compat's capability that was already retrieved from a provider into a lazy optional {@link IStrictEnergyHandler}.
+     *
+     * @param capability Lazy optional of the capability this compat is for
+     *
+     * @return The given capability wrapped into an {@link IStrictEnergyHandler}.
+     */
+    @Nonnull
+    LazyOptional<IStrictEnergyHandler> wrapAsStrictEnergyHandler(LazyOptional<?> capability);
 }
\ No newline at end of file
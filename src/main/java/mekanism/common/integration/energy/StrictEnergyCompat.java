@@ -41,4 +41,10 @@ public class StrictEnergyCompat implements IEnergyCompat {
     public LazyOptional<IStrictEnergyHandler> getLazyStrictEnergyHandler(ICapabilityProvider provider, @Nullable Direction side) {
         return CapabilityUtils.getCapability(provider, Capabilities.STRICT_ENERGY_CAPABILITY, side);
     }
+
+    @Nonnull
+    @Override
+    public LazyOptional<IStrictEnergyHandler> wrapAsStrictEnergyHandler(LazyOptional<?> capability) {
+        return capability.cast();
+    }
 }
\ No newline at end of file
@@ -13,6 +13,7 @@ import net.minecraftforge.common.capabilities.Capability;
 import net.minecraftforge.common.capabilities.ICapabilityProvider;
 import net.minecraftforge.common.util.LazyOptional;
 import sonar.fluxnetworks.api.energy.FNEnergyCapability;
+import sonar.fluxnetworks.api.energy.IFNEnergyStorage;
 
 @ParametersAreNonnullByDefault
 public class FNEnergyCompat implements IEnergyCompat {
@@ -53,4 +54,10 @@ public class FNEnergyCompat implements IEnergyCompat {
     public LazyOptional<IStrictEnergyHandler> getLazyStrictEnergyHandler(ICapabilityProvider provider, @Nullable Direction side) {
         return CapabilityUtils.getCapability(provider, FNEnergyCapability.FN_ENERGY_STORAGE, side).map(FNStrictEnergyHandler::new);
     }
+
+    @Nonnull
+    @Override
+    public LazyOptional<IStrictEnergyHandler> wrapAsStrictEnergyHandler(LazyOptional<?> capability) {
+        return capability.<IFNEnergyStorage>cast().map(FNStrictEnergyHandler::new);
+    }
 }*/
\ No newline at end of file
@@ -44,4 +44,10 @@ public class ForgeEnergyCompat implements IEnergyCompat {
     public LazyOptional<IStrictEnergyHandler> getLazyStrictEnergyHandler(ICapabilityProvider provider, @Nullable Direction side) {
         return CapabilityUtils.getCapability(provider, CapabilityEnergy.ENERGY, side).map(ForgeStrictEnergyHandler::new);
     }
+
+    @Nonnull
+    @Override
+    public LazyOptional<IStrictEnergyHandler> wrapAsStrictEnergyHandler(LazyOptional<?> capability) {
+        return capability.<IEnergyStorage>cast().map(ForgeStrictEnergyHandler::new);
+    }
 }
\ No newline at end of file
@@ -1,12 +1,20 @@
 package mekanism.common.lib.chunkloading;
 
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import it.unimi.dsi.fastutil.objects.ObjectIterator;
+import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
 import java.util.Comparator;
+import java.util.Set;
 import javax.annotation.ParametersAreNonnullByDefault;
 import mcp.MethodsReturnNonnullByDefault;
 import mekanism.common.tile.component.TileComponentChunkLoader;
 import net.minecraft.nbt.CompoundNBT;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.server.ServerChunkProvider;
 import net.minecraft.world.server.ServerWorld;
 import net.minecraft.world.server.TicketType;
 import net.minecraft.world.storage.WorldSavedData;
@@ -19,6 +27,9 @@ import org.apache.logging.log4j.Logger;
  *
  * Stores a MultiMap style Map of ChunkPos(long) -> List of block positions of Chunkloaders.
  *
+ * Each chunk has a single ticket that is held as long as at least one chunkloader references it. Changes to the references are batched and applied to the tickets
+ * at the end of the tick, so chunkloaders that release and re-register their chunks in the same tick don't cause any ticket churn.
+ *
  * Removes the risk of vanilla forced chunks being unforced on us
  */
 @ParametersAreNonnullByDefault
@@ -28,10 +39,16 @@ public class ChunkManager extends WorldSavedData {
     private static final String CHUNK_LIST_KEY = "chunks";
     private static final Logger LOGGER = LogManager.getLogger("Mekanism ChunkManager");
     private static final String SAVEDATA_KEY = "mekanism_force_chunks";
-    /** Ticket type to keep the chunk loaded initially for a short time, so the Chunkloaders can register theirs */
-    private static final TicketType<ChunkPos> INITIAL_LOAD_TICKET_TYPE = TicketType.create("mekanism:initial_chunkload", Comparator.comparingLong(ChunkPos::asLong), 10);
+    private static final TicketType<ChunkPos> TICKET_TYPE = TicketType.create("mekanism:chunk_loader", Comparator.comparingLong(ChunkPos::asLong));
+    /** How long chunkloaders restored on world load have to register themselves before we release the chunks they were loading */
+    private static final int LOADER_VALIDATION_TICKS = 5 * 20;
 
     private ChunkMultimap chunks = new ChunkMultimap();
+    //Runtime state that is not saved
+    private final LongSet ticketedChunks = new LongOpenHashSet();
+    private final LongSet pendingChunks = new LongOpenHashSet();
+    private final Set<BlockPos> unconfirmedLoaders = new ObjectOpenHashSet<>();
+    private int validationTicks;
 
     private ChunkManager() {
         super(SAVEDATA_KEY);
@@ -50,29 +67,43 @@ public class ChunkManager extends WorldSavedData {
     }
 
     public void registerChunk(ChunkPos chunk, BlockPos chunkLoaderPos) {
-        this.chunks.add(chunk, chunkLoaderPos);
-        markDirty();
+        if (this.chunks.add(chunk, chunkLoaderPos)) {
+            markDirty();
+        }
+        this.pendingChunks.add(chunk.asLong());
+        this.unconfirmedLoaders.remove(chunkLoaderPos);
     }
 
     public void deregisterChunk(ChunkPos chunk, BlockPos chunkLoaderPos) {
         this.chunks.remove(chunk, chunkLoaderPos);
+        this.pendingChunks.add(chunk.asLong());
         markDirty();
     }
 
     public static void worldLoad(ServerWorld world) {
         ChunkManager savedData = getInstance(world);
         LOGGER.info("Loading {} chunks for dimension {}", savedData.chunks.size(), world.func_234923_W_().func_240901_a_());
+        ServerChunkProvider chunkProvider = world.getChunkProvider();
         savedData.chunks.long2ObjectEntrySet().fastForEach(entry -> {
-            //Add a separate ticket (which has a timout) to let the chunk tick for a short while (chunkloader will refresh if it's able)
-            // This is required as we cannot do any validation about tiles (or blocks) being valid still or not, due to the multithreading
-            // of world loading and some potential thread locking that exists from querying the world during load
-            ChunkPos pos = new ChunkPos(entry.getLongKey());
-            world.getChunkProvider().registerTicket(INITIAL_LOAD_TICKET_TYPE, pos, TileComponentChunkLoader.TICKET_DISTANCE, pos);
+            //Restore all the tickets in one pass. We cannot do any validation about tiles (or blocks) being valid still or not here, due to the
+            // multithreading of world loading and some potential thread locking that exists from querying the world during load. Instead, we
+            // give the chunkloaders a short while to register themselves and release any chunks of loaders that don't
+            long chunk = entry.getLongKey();
+            if (savedData.ticketedChunks.add(chunk)) {
+                ChunkPos pos = new ChunkPos(chunk);
+                chunkProvider.registerTicket(TICKET_TYPE, pos, TileComponentChunkLoader.TICKET_DISTANCE, pos);
+            }
+            savedData.unconfirmedLoaders.addAll(entry.getValue());
         });
+        savedData.validationTicks = LOADER_VALIDATION_TICKS;
     }
 
     public static void tick(ServerWorld world) {
         ChunkManager instance = getInstance(world);
+        if (instance.validationTicks > 0 && --instance.validationTicks == 0) {
+            instance.releaseUnconfirmedLoaders();
+        }
+        instance.applyPendingTickets(world.getChunkProvider());
         if (!instance.chunks.isEmpty()) {
             //If we have any chunks loaded we need to reset the update entity tick
             // This is similar to what vanilla does for when it has force loaded chunks
@@ -83,6 +114,44 @@ public class ChunkManager extends WorldSavedData {
         }
     }
 
+    private void releaseUnconfirmedLoaders() {
+        if (!unconfirmedLoaders.isEmpty()) {
+            LOGGER.info("Releasing chunks of {} chunkloaders that did not load", unconfirmedLoaders.size());
+            ObjectIterator<Long2ObjectMap.Entry<Set<BlockPos>>> iterator = chunks.long2ObjectEntrySet().fastIterator();
+            while (iterator.hasNext()) {
+                Long2ObjectMap.Entry<Set<BlockPos>> entry = iterator.next();
+                Set<BlockPos> loaders = entry.getValue();
+                if (loaders.removeAll(unconfirmedLoaders)) {
+                    pendingChunks.add(entry.getLongKey());
+                    if (loaders.isEmpty()) {
+                        iterator.remove();
+                    }
+                }
+            }
+            unconfirmedLoaders.clear();
+            markDirty();
+        }
+    }
+
+    private void applyPendingTickets(ServerChunkProvider chunkProvider) {
+        if (!pendingChunks.isEmpty()) {
+            LongIterator iterator = pendingChunks.iterator();
+            while (iterator.hasNext()) {
+                long chunk = iterator.nextLong();
+                if (chunks.containsKey(chunk)) {
+                    if (ticketedChunks.add(chunk)) {
+                        ChunkPos pos = new ChunkPos(chunk);
+                        chunkProvider.registerTicket(TICKET_TYPE, pos, TileComponentChunkLoader.TICKET_DISTANCE, pos);
+                    }
+                } else if (ticketedChunks.remove(chunk)) {
+                    ChunkPos pos = new ChunkPos(chunk);
+                    chunkProvider.releaseTicket(TICKET_TYPE, pos, TileComponentChunkLoader.TICKET_DISTANCE, pos);
+                }
+            }
+            pendingChunks.clear();
+        }
+    }
+
     public static ChunkManager getInstance(ServerWorld world) {
         return world.getSavedData().getOrCreate(ChunkManager::new, SAVEDATA_KEY);
     }
@@ -0,0 +1,141 @@
+package mekanism.common.lib.distribution;
+
+import it.unimi.dsi.fastutil.ints.IntArrays;
+import mekanism.api.math.FloatingLong;
+
+/**
+ * Splits an amount between targets that accept anything up to a fixed capacity. The amount is split evenly, any target whose capacity is smaller than its even share
+ * gets filled, and what is left is split evenly between the remaining targets in the order they are given in, with any remainder going to the first of them. This
+ * gives the same shares as the fair split done by {@link mekanism.common.util.EmitUtils#sendToAcceptors} for such targets when they are iterated in the same order,
+ * but only needs a sort of the capacities instead of simulating every target.
+ *
+ * @apiNote Meant for computing things like the shares transmitters save of their network's buffer, real acceptors should go through the normal split.
+ */
+public class CapacitySplitter {
+
+    private CapacitySplitter() {
+    }
+
+    /**
+     * @param amount     Amount to split
+     * @param capacities Capacity of each target
+     *
+     * @return The share of each target, which may add up to less than the amount if the amount is larger than the total capacity.
+     */
+    public static long[] split(long amount, long[] capacities) {
+        int targets = capacities.length;
+        long[] shares = new long[targets];
+        boolean[] filled = new boolean[targets];
+        int[] order = getFillOrder(capacities);
+        long remaining = amount;
+        int index = 0;
+        //Fill all the targets that are too small for an even split of what is left
+        for (; index < targets; index++) {
+            int target = order[index];
+            if (capacities[target] > remaining / (targets - index)) {
+                break;
+            }
+            shares[target] = capacities[target];
+            filled[target] = true;
+            remaining -= capacities[target];
+        }
+        //Split the rest evenly between the other targets in order, offering each the even split plus the whole remainder like the fair split does
+        int remainingTargets = targets - index;
+        for (int target = 0; target < targets && remainingTargets > 0; target++) {
+            if (!filled[target]) {
+                long share = Math.min(capacities[target], remaining / remainingTargets + remaining % remainingTargets);
+                shares[target] = share;
+                remaining -= share;
+                remainingTargets--;
+            }
+        }
+        return shares;
+    }
+
+    /**
+     * @param amount     Amount to split
+     * @param capacities Capacity of each target
+     *
+     * @return The share of each target, which may add up to less than the amount if the amount is larger than the total capacity.
+     */
+    public static FloatingLong[] split(FloatingLong amount, FloatingLong[] capacities) {
+        int targets = capacities.length;
+        FloatingLong[] shares = new FloatingLong[targets];
+        boolean[] filled = new boolean[targets];
+        int[] order = getFillOrder(capacities);
+        FloatingLong remaining = amount.copy();
+        int index = 0;
+        //Fill all the targets that are too small for an even split of what is left
+        for (; index < targets; index++) {
+            int target = order[index];
+            if (capacities[target].greaterThan(remaining.divide(targets - index))) {
+                break;
+            }
+            shares[target] = capacities[target].copy();
+            filled[target] = true;
+            remaining = remaining.minusEqual(capacities[target]);
+        }
+        //Split the rest evenly between the other targets in order, recalculating the split after each one so that what is lost to rounding ends up with the last one
+        int remainingTargets = targets - index;
+        for (int target = 0; target < targets && remainingTargets > 0; target++) {
+            if (!filled[target]) {
+                FloatingLong share = remaining.divide(remainingTargets);
+                if (share.greaterThan(capacities[target])) {
+                    share = capacities[target].copy();
+                }
+                shares[target] = share;
+                remaining = remaining.minusEqual(share);
+                remainingTargets--;
+            }
+        }
+        return shares;
+    }
+
+    private static int[] getFillOrder(long[] capacities) {
+        int[] order = createOrder(capacities.length);
+        if (!allEqual(capacities)) {
+            IntArrays.quickSort(order, (a, b) -> {
+                int compare = Long.compare(capacities[a], capacities[b]);
+                return compare == 0 ? Integer.compare(a, b) : compare;
+            });
+        }
+        return order;
+    }
+
+    private static int[] getFillOrder(FloatingLong[] capacities) {
+        int[] order = createOrder(capacities.length);
+        if (!allEqual(capacities)) {
+            IntArrays.quickSort(order, (a, b) -> {
+                int compare = capacities[a].compareTo(capacities[b]);
+                return compare == 0 ? Integer.compare(a, b) : compare;
+            });
+        }
+        return order;
+    }
+
+    private static int[] createOrder(int targets) {
+        int[] order = new int[targets];
+        for (int i = 0; i < targets; i++) {
+            order[i] = i;
+        }
+        return order;
+    }
+
+    private static boolean allEqual(long[] capacities) {
+        for (int i = 1; i < capacities.length; i++) {
+            if (capacities[i] != capacities[0]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean allEqual(FloatingLong[] capacities) {
+        for (int i = 1; i < capacities.length; i++) {
+            if (!capacities[i].equals(capacities[0])) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -21,9 +21,9 @@ public class FloatingLongSplitInfo extends SplitInfo<FloatingLong> {
         amountToSplit = amountToSplit.minusEqual(amountNeeded);
         sentSoFar = sentSoFar.plusEqual(amountNeeded);
         toSplitAmong--;
-        //Only recalculate it if it is not willing to accept/doesn't want the
-        // full per side split
-        if (!amountNeeded.equals(amountPerTarget) && toSplitAmong != 0) {
+        //Always recalculate it, even if it accepted exactly the per side split, as the remainder
+        // may have been what was keeping the share from increasing
+        if (toSplitAmong != 0) {
             FloatingLong amountPerLast = amountPerTarget;
             amountPerTarget = amountToSplit.divide(toSplitAmong);
             if (!amountPerChanged && !amountPerTarget.equals(amountPerLast)) {
@@ -18,9 +18,9 @@ public class LongSplitInfo extends SplitInfo<Long> {
         amountToSplit -= amountNeeded;
         sentSoFar += amountNeeded;
         toSplitAmong--;
-        //Only recalculate it if it is not willing to accept/doesn't want the
-        // full per side split
-        if (amountNeeded != amountPerTarget && toSplitAmong != 0) {
+        //Always recalculate it, even if it accepted exactly the per side split, as the remainder
+        // may have been what was keeping the share from increasing
+        if (toSplitAmong != 0) {
             long amountPerLast = amountPerTarget;
             amountPerTarget = amountToSplit / toSplitAmong;
             if (!amountPerChanged && amountPerTarget != amountPerLast) {
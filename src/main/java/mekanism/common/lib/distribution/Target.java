@@ -1,7 +1,6 @@
 package mekanism.common.lib.distribution;
 
 import java.util.EnumMap;
-import java.util.Iterator;
 import java.util.Map;
 import java.util.Map.Entry;
 import net.minecraft.util.Direction;
@@ -71,46 +70,33 @@ public abstract class Target<HANDLER, TYPE extends Number & Comparable<TYPE>, EX
     protected abstract TYPE simulate(HANDLER handler, EXTRA extra);
 
     /**
-     * Calculates how much each handler can take of toSend. If the amount requested is less than the amount per handler/target in splitInfo it immediately sends the
-     * requested amount to the handler via {@link #acceptAmount(HANDLER, SplitInfo, Number)}
+     * Calculates how much each handler can take of toSend and marks all of them as needing that amount, without sending anything yet.
      *
-     * @param toSend    The total amount getting sent.
-     * @param splitInfo Information about current overall split.
+     * @param toSend The total amount getting sent.
      */
-    public void sendPossible(EXTRA toSend, SplitInfo<TYPE> splitInfo) {
+    public void simulateNeeded(EXTRA toSend) {
         for (Entry<Direction, HANDLER> entry : handlers.entrySet()) {
-            TYPE amountNeeded = simulate(entry.getValue(), toSend);
-            if (amountNeeded.compareTo(splitInfo.getShareAmount()) <= 0) {
-                //Add the amount, in case something changed from simulation only mark actual sent amount
-                // in split info
-                acceptAmount(entry.getValue(), splitInfo, amountNeeded);
-            } else {
-                needed.put(entry.getKey(), amountNeeded);
-            }
+            needed.put(entry.getKey(), simulate(entry.getValue(), toSend));
         }
     }
 
     /**
-     * Rechecks to see if any of the needed amounts is able to fit under the new split and if so gives them the requested amount.
+     * @return Map of sides to the amount the handler on that side still needs.
+     */
+    public Map<Direction, TYPE> getNeeded() {
+        return needed;
+    }
+
+    /**
+     * Gives the handler on the given side the amount it needs, and stops tracking it as needing anything.
      *
-     * @param splitInfo The new split to (re)check.
+     * @param side      The side of the handler.
+     * @param splitInfo Information about current overall split.
      */
-    public void shiftNeeded(SplitInfo<TYPE> splitInfo) {
-        Iterator<Entry<Direction, TYPE>> iterator = needed.entrySet().iterator();
-        //Use an iterator rather than a copy of the keySet of the needed subMap
-        // This allows for us to remove it once we find it without  having to
-        // start looping again or make a large number of copies of the set
-        while (iterator.hasNext()) {
-            Entry<Direction, TYPE> needInfo = iterator.next();
-            TYPE amountNeeded = needInfo.getValue();
-            if (amountNeeded.compareTo(splitInfo.getShareAmount()) <= 0) {
-                acceptAmount(handlers.get(needInfo.getKey()), splitInfo, amountNeeded);
-                //Remove it as it has now been sent
-                iterator.remove();
-                //Continue checking things in case we happen to be
-                // getting things in a bad order so that we don't recheck
-                // the same values many times
-            }
+    public void sendNeeded(Direction side, SplitInfo<TYPE> splitInfo) {
+        TYPE amountNeeded = needed.remove(side);
+        if (amountNeeded != null) {
+            acceptAmount(handlers.get(side), splitInfo, amountNeeded);
         }
     }
 }
\ No newline at end of file
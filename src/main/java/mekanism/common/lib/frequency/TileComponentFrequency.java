@@ -4,6 +4,7 @@ import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
 import mekanism.common.inventory.container.MekanismContainer;
 import mekanism.common.inventory.container.sync.SyncableFrequency;
 import mekanism.common.inventory.container.sync.list.SyncableFrequencyList;
@@ -47,6 +48,20 @@ public class TileComponentFrequency implements ITileComponent {
         }
     }
 
+    @Override
+    public boolean isIdle() {
+        if (needsNotify) {
+            return false;
+        }
+        for (Entry<FrequencyType<?>, Frequency> entry : heldFrequencies.entrySet()) {
+            //Security frequencies don't need to be updated by the tile, but any other frequencies that we hold may
+            if (entry.getValue() != null && entry.getKey() != FrequencyType.SECURITY) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     public void track(FrequencyType<?> type, boolean needsSync, boolean needsListCache, boolean notifyNeighbors) {
         supportedFrequencies.put(type, new FrequencyTrackingData(needsSync, needsListCache, notifyNeighbors));
     }
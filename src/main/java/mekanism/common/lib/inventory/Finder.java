@@ -1,5 +1,6 @@
 package mekanism.common.lib.inventory;
 
+import mekanism.common.base.TagCache;
 import mekanism.common.lib.WildcardMatcher;
 import net.minecraft.block.Block;
 import net.minecraft.block.material.Material;
@@ -24,7 +25,7 @@ public interface Finder {
             if (stack.isEmpty()) {
                 return false;
             }
-            return stack.getItem().getTags().stream().anyMatch(tag -> WildcardMatcher.matches(tagName, tag.toString()));
+            return TagCache.matchesItemTag(tagName, stack.getItem());
         };
     }
 
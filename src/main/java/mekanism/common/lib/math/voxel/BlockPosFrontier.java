@@ -0,0 +1,199 @@
+package mekanism.common.lib.math.voxel;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayFIFOQueue;
+import javax.annotation.Nullable;
+import net.minecraft.nbt.CompoundNBT;
+import net.minecraft.util.math.BlockPos;
+import net.minecraftforge.common.util.Constants.NBT;
+
+/**
+ * FIFO frontier of block positions for incrementally exploring an area, one node per operation. Positions are stored packed as longs, and the positions that have been
+ * visited are tracked in a bitmap per chunk section so that checking a position is constant time regardless of how large the explored area has gotten.
+ */
+public class BlockPosFrontier {
+
+    private static final int SECTION_WORDS = 16 * 16 * 16 / Long.SIZE;
+
+    private final LongArrayFIFOQueue frontier = new LongArrayFIFOQueue();
+    private final Long2ObjectMap<long[]> visitedSections = new Long2ObjectOpenHashMap<>();
+    private int visitedCount;
+
+    public boolean isEmpty() {
+        return frontier.isEmpty();
+    }
+
+    /**
+     * @return The number of positions in the frontier.
+     */
+    public int size() {
+        return frontier.size();
+    }
+
+    /**
+     * @return The number of positions that are currently marked as visited.
+     */
+    public int getVisitedCount() {
+        return visitedCount;
+    }
+
+    /**
+     * Marks the given position as visited and adds it to the end of the frontier if it has not been visited yet.
+     *
+     * @return {@code true} if the position was added.
+     */
+    public boolean add(BlockPos pos) {
+        if (markVisited(pos)) {
+            frontier.enqueue(pos.toLong());
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * @return The first position in the frontier.
+     *
+     * @apiNote Only call this if the frontier is not empty.
+     */
+    public BlockPos first() {
+        return BlockPos.fromLong(frontier.firstLong());
+    }
+
+    /**
+     * Removes the first position from the frontier, it is left marked as visited.
+     */
+    public void removeFirst() {
+        frontier.dequeueLong();
+    }
+
+    /**
+     * Moves the first position in the frontier to the end of the frontier.
+     */
+    public void cycleFirst() {
+        frontier.enqueue(frontier.dequeueLong());
+    }
+
+    public boolean isVisited(BlockPos pos) {
+        long[] section = visitedSections.get(getSectionKey(pos));
+        if (section == null) {
+            return false;
+        }
+        int index = getIndexInSection(pos);
+        return (section[index >> 6] & (1L << index)) != 0;
+    }
+
+    /**
+     * @return {@code true} if the position was not visited before.
+     */
+    public boolean markVisited(BlockPos pos) {
+        long[] section = visitedSections.computeIfAbsent(getSectionKey(pos), key -> new long[SECTION_WORDS]);
+        int index = getIndexInSection(pos);
+        long bit = 1L << index;
+        if ((section[index >> 6] & bit) == 0) {
+            section[index >> 6] |= bit;
+            visitedCount++;
+            return true;
+        }
+        return false;
+    }
+
+    public void unmarkVisited(BlockPos pos) {
+        long sectionKey = getSectionKey(pos);
+        long[] section = visitedSections.get(sectionKey);
+        if (section != null) {
+            int index = getIndexInSection(pos);
+            long bit = 1L << index;
+            if ((section[index >> 6] & bit) != 0) {
+                section[index >> 6] &= ~bit;
+                visitedCount--;
+                if (isEmptySection(section)) {
+                    visitedSections.remove(sectionKey);
+                }
+            }
+        }
+    }
+
+    public void clear() {
+        frontier.clear();
+        visitedSections.clear();
+        visitedCount = 0;
+    }
+
+    /**
+     * Writes the frontier and if a key is given for it the visited positions. Without the visited positions only the positions in the frontier get marked as visited
+     * again when reading.
+     */
+    public void write(CompoundNBT nbtTags, String frontierKey, @Nullable String visitedKey) {
+        if (!frontier.isEmpty()) {
+            long[] positions = new long[frontier.size()];
+            for (int i = 0; i < positions.length; i++) {
+                //Cycle through the queue so that we keep the order without having to copy it
+                long pos = frontier.dequeueLong();
+                positions[i] = pos;
+                frontier.enqueue(pos);
+            }
+            nbtTags.putLongArray(frontierKey, positions);
+        }
+        if (visitedKey != null && !visitedSections.isEmpty()) {
+            //Each section is written as its key followed by its words of the bitmap
+            long[] visited = new long[visitedSections.size() * (SECTION_WORDS + 1)];
+            int index = 0;
+            for (Long2ObjectMap.Entry<long[]> entry : visitedSections.long2ObjectEntrySet()) {
+                visited[index++] = entry.getLongKey();
+                System.arraycopy(entry.getValue(), 0, visited, index, SECTION_WORDS);
+                index += SECTION_WORDS;
+            }
+            nbtTags.putLongArray(visitedKey, visited);
+        }
+    }
+
+    /**
+     * Reads the frontier that was written by {@link #write(CompoundNBT, String, String)}.
+     *
+     * @return {@code false} if there was no data stored in the compact format under the given keys.
+     */
+    public boolean read(CompoundNBT nbtTags, String frontierKey, @Nullable String visitedKey) {
+        clear();
+        boolean hasFrontier = nbtTags.contains(frontierKey, NBT.TAG_LONG_ARRAY);
+        boolean hasVisited = visitedKey != null && nbtTags.contains(visitedKey, NBT.TAG_LONG_ARRAY);
+        if (hasVisited) {
+            long[] visited = nbtTags.getLongArray(visitedKey);
+            for (int index = 0; index + SECTION_WORDS < visited.length; index += SECTION_WORDS + 1) {
+                long[] section = new long[SECTION_WORDS];
+                System.arraycopy(visited, index + 1, section, 0, SECTION_WORDS);
+                if (!isEmptySection(section)) {
+                    visitedSections.put(visited[index], section);
+                    for (long word : section) {
+                        visitedCount += Long.bitCount(word);
+                    }
+                }
+            }
+        }
+        if (hasFrontier) {
+            for (long pos : nbtTags.getLongArray(frontierKey)) {
+                markVisited(BlockPos.fromLong(pos));
+                frontier.enqueue(pos);
+            }
+        }
+        return hasFrontier || hasVisited;
+    }
+
+    private static boolean isEmptySection(long[] section) {
+        for (long word : section) {
+            if (word != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static long getSectionKey(BlockPos pos) {
+        //Pack the section coordinates the same way as SectionPos does
+        return ((long) (pos.getX() >> 4) & 0x3FFFFF) << 42 | ((long) (pos.getY() >> 4) & 0xFFFFF) | ((long) (pos.getZ() >> 4) & 0x3FFFFF) << 20;
+    }
+
+    private static int getIndexInSection(BlockPos pos) {
+        return (pos.getY() & 15) << 8 | (pos.getZ() & 15) << 4 | (pos.getX() & 15);
+    }
+}
@@ -0,0 +1,31 @@
+package mekanism.common.lib.perf;
+
+/**
+ * Subsystems that have their timings recorded by {@link PerfTracker}.
+ */
+public enum PerfSection {
+    ENERGY_NETWORK_EMIT("energyNetworkEmit"),
+    FLUID_NETWORK_EMIT("fluidNetworkEmit"),
+    CHEMICAL_NETWORK_EMIT("chemicalNetworkEmit"),
+    HEAT_NETWORK_UPDATE("heatNetworkUpdate"),
+    TRANSPORTER_PATHFIND("transporterPathfind"),
+    RECIPE_LOOKUP("recipeLookup"),
+    MULTIBLOCK_TICK("multiblockTick"),
+    RADIATION_QUERY("radiationQuery"),
+    QIO_OPERATION("qioOperation");
+
+    private final String name;
+    private final TimingHistogram histogram = new TimingHistogram();
+
+    PerfSection(String name) {
+        this.name = name;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public TimingHistogram getHistogram() {
+        return histogram;
+    }
+}
@@ -0,0 +1,75 @@
+package mekanism.common.lib.perf;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+/**
+ * Low overhead instrumentation of Mekanism's hot paths. When tracking is not running {@link #start()} is a single field read and {@link #end(PerfSection, long)} does
+ * nothing.
+ *
+ * <pre>{@code
+ * long start = PerfTracker.start();
+ * //Do work
+ * PerfTracker.end(PerfSection.RECIPE_LOOKUP, start);
+ * }</pre>
+ */
+public final class PerfTracker {
+
+    private static final PerfSection[] SECTIONS = PerfSection.values();
+    private static volatile boolean running;
+
+    private PerfTracker() {
+    }
+
+    public static boolean isRunning() {
+        return running;
+    }
+
+    public static void setRunning(boolean running) {
+        PerfTracker.running = running;
+    }
+
+    /**
+     * @return The time the section started at, or {@code 0} if tracking is not running.
+     */
+    public static long start() {
+        return running ? System.nanoTime() : 0;
+    }
+
+    /**
+     * @param section Section to record the time for.
+     * @param start   Value returned by {@link #start()} when the section started.
+     */
+    public static void end(PerfSection section, long start) {
+        if (start != 0) {
+            section.getHistogram().record(System.nanoTime() - start);
+        }
+    }
+
+    public static void reset() {
+        for (PerfSection section : SECTIONS) {
+            section.getHistogram().reset();
+        }
+    }
+
+    public static void dumpCSV(File file) throws IOException {
+        File parent = file.getParentFile();
+        if (parent != null && !parent.exists() && !parent.mkdirs()) {
+            throw new IOException("Failed to create directory " + parent);
+        }
+        try (BufferedWriter writer = Files.newBufferedWriter(file.toPath(), StandardCharsets.UTF_8)) {
+            writer.write("section,count,total_ns,avg_ns,p50_ns,p90_ns,p99_ns,max_ns");
+            writer.newLine();
+            for (PerfSection section : SECTIONS) {
+                TimingHistogram histogram = section.getHistogram();
+                writer.write(section.getName() + "," + histogram.getCount() + "," + histogram.getTotalNanos() + "," + Math.round(histogram.getAverageNanos()) + "," +
+                             histogram.getPercentileNanos(0.5) + "," + histogram.getPercentileNanos(0.9) + "," + histogram.getPercentileNanos(0.99) + "," +
+                             histogram.getMaxNanos());
+                writer.newLine();
+            }
+        }
+    }
+}
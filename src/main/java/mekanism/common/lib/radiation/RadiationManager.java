@@ -20,6 +20,8 @@ import mekanism.common.capabilities.Capabilities;
 import mekanism.common.config.MekanismConfig;
 import mekanism.common.lib.HashList;
 import mekanism.common.lib.math.voxel.Chunk3D;
+import mekanism.common.lib.perf.PerfSection;
+import mekanism.common.lib.perf.PerfTracker;
 import mekanism.common.lib.radiation.capability.IRadiationEntity;
 import mekanism.common.lib.radiation.capability.IRadiationShielding;
 import mekanism.common.network.PacketRadiationData;
@@ -108,6 +110,7 @@ public class RadiationManager {
      * @return radiation level (in sV)
      */
     public double getRadiationLevel(Coord4D coord) {
+        long start = PerfTracker.start();
         Set<Chunk3D> checkChunks = new Chunk3D(coord).expand(MekanismConfig.general.radiationChunkCheckRadius.get());
         double level = BASELINE;
 
@@ -122,7 +125,7 @@ public class RadiationManager {
                 }
             }
         }
-
+        PerfTracker.end(PerfSection.RADIATION_QUERY, start);
         return level;
     }
 
@@ -7,6 +7,8 @@ import java.util.UUID;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import mekanism.api.Range3D;
+import mekanism.common.Mekanism;
+import mekanism.common.config.GeneralConfig.NetworkSyncConfig;
 import mekanism.common.content.network.transmitter.BufferedTransmitter;
 import mekanism.common.util.MekanismUtils;
 import net.minecraft.util.math.BlockPos;
@@ -24,6 +26,8 @@ public abstract class DynamicBufferedNetwork<ACCEPTOR, NETWORK extends DynamicBu
     private boolean forceScaleUpdate;
     private long lastSaveShareWriteTime;
     private long lastMarkDirtyTime;
+    private long lastClientSyncTime;
+    private float lastSyncedScale;
     public float currentScale;
 
     protected DynamicBufferedNetwork() {
@@ -35,14 +39,46 @@ public abstract class DynamicBufferedNetwork<ACCEPTOR, NETWORK extends DynamicBu
 
     protected abstract float computeContentScale();
 
+    /**
+     * @return The policy for how often changes in the scale of this type of network get synced to the client.
+     */
+    protected abstract NetworkSyncConfig getSyncConfig();
+
     @Override
     public void onUpdate() {
         super.onUpdate();
-        float scale = computeContentScale();
-        if (scale != currentScale) {
-            currentScale = scale;
-            needsUpdate = true;
+        //Note: Changes in scale only get synced when the sync policy allows for it, see shouldSyncClients
+        currentScale = computeContentScale();
+    }
+
+    /**
+     * Checks if the clients should be sent the current contents of this network, and if so marks the current contents as synced. Changes that are marked as needing an
+     * update get synced right away, but changes in scale are throttled by the sync policy of the network.
+     */
+    protected boolean shouldSyncClients() {
+        if (!needsUpdate) {
+            if (currentScale == lastSyncedScale || world == null) {
+                return false;
+            }
+            NetworkSyncConfig syncConfig = getSyncConfig();
+            if (world.getGameTime() - lastClientSyncTime < syncConfig.minInterval.get()) {
+                return false;
+            }
+            //Always sync becoming empty or full so that clients don't get stuck rendering a network as almost empty or full
+            if (currentScale != 0 && currentScale != 1 && Math.abs(currentScale - lastSyncedScale) < syncConfig.minScaleDelta.get()) {
+                return false;
+            }
+            if (syncConfig.onlyWithReceivers.get() && !Mekanism.packetHandler.hasReceivers(this)) {
+                //Players that come into range later get the scale from the update tag of the transmitters
+                return false;
+            }
+        }
+        needsUpdate = false;
+        lastSyncedScale = currentScale;
+        if (world != null) {
+            lastClientSyncTime = world.getGameTime();
         }
+        return true;
     }
 
     @Override
@@ -92,6 +128,15 @@ public abstract class DynamicBufferedNetwork<ACCEPTOR, NETWORK extends DynamicBu
         updateSaveShares(triggerTransmitter);
     }
 
+    @Override
+    protected void transmittersRemoved() {
+        super.transmittersRemoved();
+        updateCapacity();
+        clampBuffer();
+        needsUpdate = true;
+        packetRange = null;
+    }
+
     protected abstract void forceScaleUpdate();
 
     @Nonnull
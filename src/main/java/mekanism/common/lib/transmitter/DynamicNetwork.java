@@ -1,15 +1,24 @@
 package mekanism.common.lib.transmitter;
 
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
 import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Deque;
+import java.util.List;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import mekanism.api.text.IHasTextComponent;
 import mekanism.common.content.network.transmitter.Transmitter;
 import mekanism.common.lib.transmitter.acceptor.NetworkAcceptorCache;
+import mekanism.common.tile.transmitter.TileEntityTransmitter;
 import mekanism.common.util.EnumUtils;
+import mekanism.common.util.MekanismUtils;
 import net.minecraft.util.Direction;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.World;
@@ -24,6 +33,8 @@ public abstract class DynamicNetwork<ACCEPTOR, NETWORK extends DynamicNetwork<AC
     @Nullable
     protected World world;
     private final UUID uuid;
+    private long snapshotId;
+    private long restoredSnapshotId;
 
     protected DynamicNetwork() {
         this(UUID.randomUUID());
@@ -37,6 +48,30 @@ public abstract class DynamicNetwork<ACCEPTOR, NETWORK extends DynamicNetwork<AC
         return uuid;
     }
 
+    /**
+     * Gets the id of the current set of transmitters in this network. Transmitters save this id along with the number of transmitters in the network, so that when
+     * they are loaded again and all of them are present with the same id they can form the network again without it having to be rediscovered.
+     *
+     * @return The id, or {@code 0} if the network is still waiting for transmitters to be added to it.
+     */
+    public long getSnapshotId() {
+        if (!transmittersToAdd.isEmpty()) {
+            return 0;
+        }
+        while (snapshotId == 0) {
+            //Use a random id so that ids of different networks and of the same network at different points in time do not collide
+            snapshotId = ThreadLocalRandom.current().nextLong();
+        }
+        return snapshotId;
+    }
+
+    /**
+     * Called when the set of transmitters in this network changes so that a new snapshot id gets used.
+     */
+    protected void transmittersChanged() {
+        snapshotId = 0;
+    }
+
     protected NETWORK getNetwork() {
         return (NETWORK) this;
     }
@@ -45,6 +80,15 @@ public abstract class DynamicNetwork<ACCEPTOR, NETWORK extends DynamicNetwork<AC
         transmittersToAdd.addAll(newTransmitters);
     }
 
+    /**
+     * Adds the transmitters of a restored snapshot to this new network. If they are exactly the transmitters that get committed, the network keeps the id of the
+     * snapshot, as transmitters in chunks that don't get saved again still have that id saved.
+     */
+    public void addSnapshotTransmitters(Collection<TRANSMITTER> snapshotTransmitters, long id) {
+        addNewTransmitters(snapshotTransmitters);
+        restoredSnapshotId = id;
+    }
+
     public void commit() {
         if (!transmittersToAdd.isEmpty()) {
             boolean addedValidTransmitters = false;
@@ -63,10 +107,18 @@ public abstract class DynamicNetwork<ACCEPTOR, NETWORK extends DynamicNetwork<AC
                     addTransmitterFromCommit(transmitter);
                 }
             }
+            int added = transmittersToAdd.size();
             transmittersToAdd.clear();
             if (addedValidTransmitters) {
+                if (restoredSnapshotId != 0 && transmitters.size() == added) {
+                    //The network was rebuilt with exactly the transmitters of the snapshot, keep using its id
+                    snapshotId = restoredSnapshotId;
+                } else {
+                    transmittersChanged();
+                }
                 validTransmittersAdded();
             }
+            restoredSnapshotId = 0;
         }
         acceptorCache.commit();
     }
@@ -83,11 +135,33 @@ public abstract class DynamicNetwork<ACCEPTOR, NETWORK extends DynamicNetwork<AC
     }
 
     public void invalidate(@Nullable TRANSMITTER triggerTransmitter) {
+        if (triggerTransmitter != null && !triggerTransmitter.isValid() && !isRemote() && !transmitters.contains(triggerTransmitter)) {
+            //The transmitter was already removed when another transmitter that was removed at the same time invalidated the network
+            return;
+        }
         if (transmitters.size() == 1 && triggerTransmitter != null) {
             //We're destroying the last transmitter in the network
             onLastTransmitterRemoved(triggerTransmitter);
         }
+        List<TRANSMITTER> removed = null;
+        if (triggerTransmitter != null && !triggerTransmitter.isValid() && !isRemote()) {
+            //Transmitters were removed rather than having their connections change, which means that the network can only have been split.
+            // Keep track of which transmitters are being removed so that we can only flood fill from where they were
+            removed = new ArrayList<>();
+            for (TRANSMITTER transmitter : transmitters) {
+                if (!transmitter.isValid()) {
+                    removed.add(transmitter);
+                }
+            }
+            if (!removed.contains(triggerTransmitter)) {
+                removed.add(triggerTransmitter);
+            }
+        }
         removeInvalid(triggerTransmitter);
+        if (removed != null && !transmitters.isEmpty() && splitDisconnected(removed)) {
+            //The network stays valid for the remaining part that is still connected
+            return;
+        }
         //Now invalidate the transmitters
         if (!isRemote()) {
             for (TRANSMITTER transmitter : transmitters) {
@@ -105,9 +179,138 @@ public abstract class DynamicNetwork<ACCEPTOR, NETWORK extends DynamicNetwork<AC
     protected void onLastTransmitterRemoved(@Nonnull TRANSMITTER triggerTransmitter) {
     }
 
+    /**
+     * Called after transmitters got removed from this network without it being invalidated.
+     */
+    protected void transmittersRemoved() {
+    }
+
+    /**
+     * Splits off the parts of this network that are no longer connected to the rest of it after the given transmitters were removed. This flood fills from all the
+     * remaining neighbors of the removed transmitters in lockstep, so that only the disconnected parts and not the largest remaining part have to be fully explored.
+     * The largest part stays in this network and the other parts are orphaned so that they form new networks.
+     *
+     * @return {@code false} if the remaining parts could not be determined and the network should be fully invalidated instead.
+     */
+    private boolean splitDisconnected(List<TRANSMITTER> removed) {
+        List<TRANSMITTER> seeds = new ArrayList<>();
+        for (TRANSMITTER transmitter : removed) {
+            acceptorCache.removeTransmitter(transmitter);
+            for (Direction side : EnumUtils.DIRECTIONS) {
+                TRANSMITTER neighbor = getMember(transmitter.getTilePos().offset(side));
+                if (neighbor != null && !seeds.contains(neighbor)) {
+                    seeds.add(neighbor);
+                }
+            }
+        }
+        if (seeds.isEmpty()) {
+            return false;
+        }
+        int parts = seeds.size();
+        //Union-find of the flood fills, merged when they reach each other
+        int[] parent = new int[parts];
+        List<Deque<TRANSMITTER>> queues = new ArrayList<>(parts);
+        List<List<TRANSMITTER>> members = new ArrayList<>(parts);
+        Object2IntMap<TRANSMITTER> owners = new Object2IntOpenHashMap<>();
+        owners.defaultReturnValue(-1);
+        for (int i = 0; i < parts; i++) {
+            parent[i] = i;
+            TRANSMITTER seed = seeds.get(i);
+            Deque<TRANSMITTER> queue = new ArrayDeque<>();
+            queue.add(seed);
+            queues.add(queue);
+            List<TRANSMITTER> partMembers = new ArrayList<>();
+            partMembers.add(seed);
+            members.add(partMembers);
+            owners.put(seed, i);
+        }
+        int active = parts;
+        while (active > 1) {
+            for (int i = 0; i < parts; i++) {
+                Deque<TRANSMITTER> queue = queues.get(i);
+                if (parent[i] != i || queue.isEmpty()) {
+                    continue;
+                }
+                TRANSMITTER transmitter = queue.removeFirst();
+                for (Direction side : EnumUtils.DIRECTIONS) {
+                    BlockPos neighborPos = transmitter.getAdjacentConnectableTransmitterPos(side);
+                    TRANSMITTER neighbor = neighborPos == null ? null : getMember(neighborPos);
+                    if (neighbor != null) {
+                        int owner = owners.getInt(neighbor);
+                        if (owner == -1) {
+                            owners.put(neighbor, i);
+                            queue.addLast(neighbor);
+                            members.get(i).add(neighbor);
+                        } else {
+                            int otherRoot = findRoot(parent, owner);
+                            if (otherRoot != i) {
+                                //The two flood fills are part of the same component, merge the other one into this one
+                                parent[otherRoot] = i;
+                                if (!queues.get(otherRoot).isEmpty()) {
+                                    active--;
+                                }
+                                queue.addAll(queues.get(otherRoot));
+                                members.get(i).addAll(members.get(otherRoot));
+                                queues.get(otherRoot).clear();
+                                members.get(otherRoot).clear();
+                            }
+                        }
+                    }
+                }
+                if (queue.isEmpty()) {
+                    //This component has been fully explored
+                    active--;
+                }
+            }
+        }
+        //Keep the component that is still being explored, or if all of them have been explored the largest one
+        int kept = -1;
+        for (int i = 0; i < parts; i++) {
+            if (parent[i] == i && (kept == -1 || !queues.get(i).isEmpty() ||
+                                   queues.get(kept).isEmpty() && members.get(i).size() > members.get(kept).size())) {
+                kept = i;
+            }
+        }
+        for (int i = 0; i < parts; i++) {
+            if (parent[i] == i && i != kept) {
+                for (TRANSMITTER transmitter : members.get(i)) {
+                    transmitter.takeShare();
+                    transmitter.setTransmitterNetwork(null);
+                    TransmitterNetworkRegistry.registerOrphanTransmitter(transmitter);
+                    transmitters.remove(transmitter);
+                    acceptorCache.removeTransmitter(transmitter);
+                }
+            }
+        }
+        transmittersChanged();
+        transmittersRemoved();
+        return true;
+    }
+
+    private static int findRoot(int[] parent, int index) {
+        while (parent[index] != index) {
+            index = parent[index];
+        }
+        return index;
+    }
+
+    @Nullable
+    private TRANSMITTER getMember(BlockPos pos) {
+        TileEntityTransmitter tile = MekanismUtils.getTileEntity(TileEntityTransmitter.class, world, pos);
+        if (tile != null) {
+            Transmitter<?, ?, ?> transmitter = tile.getTransmitter();
+            if (transmitter.getTransmitterNetwork() == this && transmitters.contains(transmitter)) {
+                return (TRANSMITTER) transmitter;
+            }
+        }
+        return null;
+    }
+
     protected void removeInvalid(@Nullable TRANSMITTER triggerTransmitter) {
         //Remove invalid transmitters first for share calculations
-        transmitters.removeIf(transmitter -> !transmitter.isValid());
+        if (transmitters.removeIf(transmitter -> !transmitter.isValid())) {
+            transmittersChanged();
+        }
     }
 
     public void acceptorChanged(TRANSMITTER transmitter, Direction side) {
@@ -121,6 +324,7 @@ public abstract class DynamicNetwork<ACCEPTOR, NETWORK extends DynamicNetwork<AC
         }
         transmittersToAdd.addAll(net.transmittersToAdd);
         acceptorCache.adoptAcceptors(net.acceptorCache);
+        transmittersChanged();
     }
 
     public void register() {
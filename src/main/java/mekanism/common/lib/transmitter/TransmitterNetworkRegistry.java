@@ -1,20 +1,26 @@
 package mekanism.common.lib.transmitter;
 
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMaps;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayFIFOQueue;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
 import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
-import java.util.Deque;
-import java.util.LinkedList;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 import javax.annotation.Nullable;
-import mekanism.api.Coord4D;
 import mekanism.api.MekanismAPI;
 import mekanism.common.Mekanism;
 import mekanism.common.content.network.transmitter.BufferedTransmitter;
 import mekanism.common.content.network.transmitter.Transmitter;
 import mekanism.common.util.EnumUtils;
 import net.minecraft.util.Direction;
+import net.minecraft.util.RegistryKey;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.text.ITextComponent;
 import net.minecraft.world.World;
@@ -30,8 +36,9 @@ public class TransmitterNetworkRegistry {
     private final Set<DynamicNetwork<?, ?, ?>> networks = new ObjectOpenHashSet<>();
     private final Set<DynamicNetwork<?, ?, ?>> networksToChange = new ObjectOpenHashSet<>();
     private final Set<Transmitter<?, ?, ?>> invalidTransmitters = new ObjectOpenHashSet<>();
-    private Map<Coord4D, Transmitter<?, ?, ?>> orphanTransmitters = new Object2ObjectOpenHashMap<>();
-    private final Map<Coord4D, Transmitter<?, ?, ?>> newOrphanTransmitters = new Object2ObjectOpenHashMap<>();
+    //Orphans of the world currently being processed, by packed position
+    private Long2ObjectMap<Transmitter<?, ?, ?>> orphanTransmitters = Long2ObjectMaps.emptyMap();
+    private Map<RegistryKey<World>, Long2ObjectMap<Transmitter<?, ?, ?>>> newOrphanTransmitters = new Object2ObjectOpenHashMap<>();
     private final Map<UUID, DynamicNetwork<?, ?, ?>> clientNetworks = new Object2ObjectOpenHashMap<>();
 
     public void addClientNetwork(UUID networkID, DynamicNetwork<?, ?, ?> network) {
@@ -64,7 +71,7 @@ public class TransmitterNetworkRegistry {
         getInstance().networks.clear();
         getInstance().networksToChange.clear();
         getInstance().invalidTransmitters.clear();
-        getInstance().orphanTransmitters.clear();
+        getInstance().orphanTransmitters = Long2ObjectMaps.emptyMap();
         getInstance().newOrphanTransmitters.clear();
     }
 
@@ -73,10 +80,12 @@ public class TransmitterNetworkRegistry {
     }
 
     public static void registerOrphanTransmitter(Transmitter<?, ?, ?> transmitter) {
-        Coord4D coord = Coord4D.get(transmitter.getTransmitterTile());
-        Transmitter<?, ?, ?> previous = getInstance().newOrphanTransmitters.put(coord, transmitter);
+        BlockPos pos = transmitter.getTilePos();
+        RegistryKey<World> dimension = transmitter.getTileWorld().getDimensionKey();
+        Transmitter<?, ?, ?> previous = getInstance().newOrphanTransmitters.computeIfAbsent(dimension, dim -> new Long2ObjectOpenHashMap<>())
+              .put(pos.toLong(), transmitter);
         if (previous != null && previous != transmitter) {
-            Mekanism.logger.error("Different orphan transmitter was already registered at location! {}", coord.toString());
+            Mekanism.logger.error("Different orphan transmitter was already registered at location! {} in {}", pos, dimension.getLocation());
         }
     }
 
@@ -106,6 +115,8 @@ public class TransmitterNetworkRegistry {
             for (DynamicNetwork<?, ?, ?> net : networks) {
                 net.onUpdate();
             }
+            //Send all the network contents updates from this tick together
+            Mekanism.packetHandler.sendTransmitterUpdates();
         }
     }
 
@@ -130,28 +141,63 @@ public class TransmitterNetworkRegistry {
     }
 
     private void assignOrphans() {
-        orphanTransmitters = new Object2ObjectOpenHashMap<>(newOrphanTransmitters);
-        newOrphanTransmitters.clear();
+        if (newOrphanTransmitters.isEmpty()) {
+            return;
+        }
+        //Swap out the orphans so that any transmitters that become orphans while we assign these are handled next tick
+        Map<RegistryKey<World>, Long2ObjectMap<Transmitter<?, ?, ?>>> orphansByDimension = newOrphanTransmitters;
+        newOrphanTransmitters = new Object2ObjectOpenHashMap<>();
 
-        if (MekanismAPI.debug && !orphanTransmitters.isEmpty()) {
-            Mekanism.logger.info("Dealing with {} orphan Transmitters", orphanTransmitters.size());
+        if (MekanismAPI.debug) {
+            Mekanism.logger.info("Dealing with {} orphan Transmitters", orphansByDimension.values().stream().mapToInt(Map::size).sum());
         }
 
-        for (Transmitter<?, ?, ?> orphanTransmitter : orphanTransmitters.values()) {
-            if (orphanTransmitter.isValid() && orphanTransmitter.isOrphan()) {
-                OrphanPathFinder<?, ?, ?> finder;
-                if (orphanTransmitter instanceof BufferedTransmitter) {
-                    finder = new BufferedOrphanPathFinder<>((BufferedTransmitter<?, ?, ?, ?>) orphanTransmitter);
-                } else {
-                    finder = new OrphanPathFinder<>(orphanTransmitter);
+        for (Long2ObjectMap<Transmitter<?, ?, ?>> orphans : orphansByDimension.values()) {
+            orphanTransmitters = orphans;
+            restoreSnapshots(orphans);
+            for (Transmitter<?, ?, ?> orphanTransmitter : orphans.values()) {
+                if (orphanTransmitter.isValid() && orphanTransmitter.isOrphan()) {
+                    OrphanPathFinder<?, ?, ?> finder;
+                    if (orphanTransmitter instanceof BufferedTransmitter) {
+                        finder = new BufferedOrphanPathFinder<>((BufferedTransmitter<?, ?, ?, ?>) orphanTransmitter);
+                    } else {
+                        finder = new OrphanPathFinder<>(orphanTransmitter);
+                    }
+                    DynamicNetwork<?, ?, ?> network = getNetworkFromOrphan(finder);
+                    networksToChange.add(network);
+                    network.register();
                 }
-                DynamicNetwork<?, ?, ?> network = getNetworkFromOrphan(finder);
+            }
+        }
+        orphanTransmitters = Long2ObjectMaps.emptyMap();
+    }
+
+    /**
+     * Forms the networks that the orphans were in when they were saved again, for the networks that all of their transmitters were loaded for with nothing else
+     * connecting to them. The remaining orphans get their networks discovered by flood filling as normal.
+     */
+    private void restoreSnapshots(Long2ObjectMap<Transmitter<?, ?, ?>> orphans) {
+        Long2ObjectMap<NetworkSnapshot> snapshots = new Long2ObjectOpenHashMap<>();
+        for (Transmitter<?, ?, ?> orphan : orphans.values()) {
+            long snapshotId = orphan.getSavedSnapshotId();
+            if (snapshotId != 0) {
+                snapshots.computeIfAbsent(snapshotId, id -> new NetworkSnapshot(id, orphan.getSavedSnapshotSize())).add(orphan);
+                //Only ever try to use the snapshot the first time the transmitter is an orphan after loading
+                orphan.clearSavedSnapshot();
+            }
+        }
+        int restored = 0;
+        for (NetworkSnapshot snapshot : snapshots.values()) {
+            if (snapshot.isValid()) {
+                DynamicNetwork<?, ?, ?> network = snapshot.createNetwork(snapshot.members.get(0));
                 networksToChange.add(network);
                 network.register();
+                restored++;
             }
         }
-
-        orphanTransmitters.clear();
+        if (MekanismAPI.debug && !snapshots.isEmpty()) {
+            Mekanism.logger.info("Restored {} of {} saved networks", restored, snapshots.size());
+        }
     }
 
     private <ACCEPTOR, NETWORK extends DynamicNetwork<ACCEPTOR, NETWORK, TRANSMITTER>, TRANSMITTER extends Transmitter<ACCEPTOR, NETWORK, TRANSMITTER>>
@@ -203,13 +249,104 @@ public class TransmitterNetworkRegistry {
         return components;
     }
 
+    /**
+     * The orphans that were saved as part of the same network.
+     */
+    private static class NetworkSnapshot {
+
+        private final List<Transmitter<?, ?, ?>> members = new ArrayList<>();
+        private final Long2ObjectMap<Transmitter<?, ?, ?>> positions = new Long2ObjectOpenHashMap<>();
+        private final long id;
+        private final int size;
+        private boolean sizeMatches = true;
+
+        private NetworkSnapshot(long id, int size) {
+            this.id = id;
+            this.size = size;
+        }
+
+        private void add(Transmitter<?, ?, ?> transmitter) {
+            members.add(transmitter);
+            positions.put(transmitter.getTilePos().toLong(), transmitter);
+            sizeMatches &= transmitter.getSavedSnapshotSize() == size;
+        }
+
+        /**
+         * Validates the snapshot against the world. All the transmitters that were in the network have to be present, still be connected to each other and still be
+         * able to form a network with each other, and none of them may connect to a transmitter that is not part of the snapshot as then the network has to be merged
+         * with others.
+         */
+        private boolean isValid() {
+            if (!sizeMatches || members.size() != size || positions.size() != size) {
+                return false;
+            }
+            Transmitter<?, ?, ?> first = members.get(0);
+            Object compatibilityKey = null;
+            BlockPos.Mutable mutablePos = new BlockPos.Mutable();
+            //Walk the members from the first one through their connections to each other, so that members that got disconnected from the rest don't get reached
+            LongSet reached = new LongOpenHashSet();
+            LongArrayFIFOQueue queue = new LongArrayFIFOQueue();
+            long firstPos = first.getTilePos().toLong();
+            reached.add(firstPos);
+            queue.enqueue(firstPos);
+            while (!queue.isEmpty()) {
+                Transmitter<?, ?, ?> transmitter = positions.get(queue.dequeueLong());
+                if (!transmitter.isValid() || !transmitter.isOrphan() || !first.supportsTransmissionType(transmitter)) {
+                    return false;
+                }
+                Object key = transmitter.getNetworkCompatibilityKey();
+                if (key != null) {
+                    if (compatibilityKey == null) {
+                        compatibilityKey = key;
+                    } else if (!compatibilityKey.equals(key)) {
+                        return false;
+                    }
+                }
+                BlockPos pos = transmitter.getTilePos();
+                World world = transmitter.getTileWorld();
+                for (Direction direction : EnumUtils.DIRECTIONS) {
+                    mutablePos.setAndMove(pos, direction);
+                    long adjacentPos = mutablePos.toLong();
+                    if (positions.containsKey(adjacentPos)) {
+                        if (!reached.contains(adjacentPos) && transmitter.getAdjacentConnectableTransmitterPos(direction) != null) {
+                            reached.add(adjacentPos);
+                            queue.enqueue(adjacentPos);
+                        }
+                    } else if (transmitter.canConnect(direction) && (!direction.getAxis().isHorizontal() || world.isBlockPresent(mutablePos)) &&
+                               transmitter.getAdjacentConnectableTransmitterPos(direction) != null) {
+                        //Sides that are not connected to another member of the snapshot may not connect to anything either, but skip the same unloaded
+                        // neighbors that finding the network would skip
+                        return false;
+                    }
+                }
+            }
+            return reached.size() == size;
+        }
+
+        private <ACCEPTOR, NETWORK extends DynamicNetwork<ACCEPTOR, NETWORK, TRANSMITTER>, TRANSMITTER extends Transmitter<ACCEPTOR, NETWORK, TRANSMITTER>>
+        NETWORK createNetwork(Transmitter<ACCEPTOR, NETWORK, TRANSMITTER> first) {
+            List<TRANSMITTER> transmitters = new ArrayList<>(members.size());
+            for (Transmitter<?, ?, ?> member : members) {
+                member.setOrphan(false);
+                transmitters.add((TRANSMITTER) member);
+            }
+            NETWORK network = first.createEmptyNetwork();
+            network.addSnapshotTransmitters(transmitters, id);
+            return network;
+        }
+    }
+
     public class OrphanPathFinder<ACCEPTOR, NETWORK extends DynamicNetwork<ACCEPTOR, NETWORK, TRANSMITTER>,
           TRANSMITTER extends Transmitter<ACCEPTOR, NETWORK, TRANSMITTER>> {
 
         public final Set<TRANSMITTER> connectedTransmitters = new ObjectOpenHashSet<>();
         public final Set<NETWORK> networksFound = new ObjectOpenHashSet<>();
-        public final Set<BlockPos> iterated = new ObjectOpenHashSet<>();
-        private final Deque<BlockPos> queue = new LinkedList<>();
+        private final LongSet iterated = new LongOpenHashSet();
+        private final LongArrayFIFOQueue queue = new LongArrayFIFOQueue();
+        private final BlockPos.Mutable mutablePos = new BlockPos.Mutable();
+        //Compatibility keys of the connected transmitters, see Transmitter#getNetworkCompatibilityKey
+        private final Set<Object> compatibilityKeys = new ObjectOpenHashSet<>();
+        private boolean compatibleWithAll;
         public final TRANSMITTER startPoint;
         private final World world;
 
@@ -219,40 +356,54 @@ public class TransmitterNetworkRegistry {
         }
 
         public void start() {
-            if (queue.peek() != null) {
+            if (!queue.isEmpty()) {
                 Mekanism.logger.error("OrphanPathFinder queue was not empty?!");
                 queue.clear();
             }
-            queue.push(startPoint.getTilePos());
-            while (queue.peek() != null) {
-                iterate(queue.removeFirst());
+            queue.enqueue(startPoint.getTilePos().toLong());
+            while (!queue.isEmpty()) {
+                iterate(queue.dequeueLong());
             }
         }
 
-        public void iterate(BlockPos from) {
-            if (!iterated.contains(from)) {
-                iterated.add(from);
-                Coord4D fromCoord = new Coord4D(from, world);
-                if (orphanTransmitters.containsKey(fromCoord)) {
-                    Transmitter<?, ?, ?> transmitter = orphanTransmitters.get(fromCoord);
-                    if (transmitter.isValid() && transmitter.isOrphan()) {
-                        if (connectedTransmitters.isEmpty() || connectedTransmitters.stream().anyMatch(existing -> existing.isValidTransmitter(transmitter))) {
-                            connectedTransmitters.add((TRANSMITTER) transmitter);
-                            transmitter.setOrphan(false);
-                            for (Direction direction : EnumUtils.DIRECTIONS) {
-                                if (!direction.getAxis().isHorizontal() || world.isBlockPresent(from.offset(direction))) {
-                                    BlockPos directionPos = transmitter.getAdjacentConnectableTransmitterPos(direction);
-                                    if (directionPos != null && !iterated.contains(directionPos)) {
-                                        queue.addLast(directionPos);
-                                    }
+        public void iterate(long from) {
+            if (iterated.add(from)) {
+                Transmitter<?, ?, ?> transmitter = orphanTransmitters.get(from);
+                if (transmitter == null) {
+                    addNetworkToIterated(BlockPos.fromLong(from));
+                } else if (transmitter.isValid() && transmitter.isOrphan() && isCompatible(transmitter)) {
+                    connectedTransmitters.add((TRANSMITTER) transmitter);
+                    transmitter.setOrphan(false);
+                    BlockPos pos = transmitter.getTilePos();
+                    for (Direction direction : EnumUtils.DIRECTIONS) {
+                        if (!direction.getAxis().isHorizontal() || world.isBlockPresent(mutablePos.setAndMove(pos, direction))) {
+                            BlockPos directionPos = transmitter.getAdjacentConnectableTransmitterPos(direction);
+                            if (directionPos != null) {
+                                long directionPosLong = directionPos.toLong();
+                                if (!iterated.contains(directionPosLong)) {
+                                    queue.enqueue(directionPosLong);
                                 }
                             }
                         }
                     }
+                }
+            }
+        }
+
+        /**
+         * Checks if the transmitter is valid with any of the already connected transmitters, and if so adds its compatibility key.
+         */
+        private boolean isCompatible(Transmitter<?, ?, ?> transmitter) {
+            Object key = transmitter.getNetworkCompatibilityKey();
+            if (connectedTransmitters.isEmpty() || compatibleWithAll || key == null || compatibilityKeys.contains(key)) {
+                if (key == null) {
+                    compatibleWithAll = true;
                 } else {
-                    addNetworkToIterated(from);
+                    compatibilityKeys.add(key);
                 }
+                return true;
             }
+            return false;
         }
 
         public void addNetworkToIterated(BlockPos from) {
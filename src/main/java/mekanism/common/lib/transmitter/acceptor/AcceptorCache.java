@@ -78,6 +78,22 @@ public class AcceptorCache<ACCEPTOR> extends AbstractAcceptorCache<ACCEPTOR, Acc
         return LazyOptional.empty();
     }
 
+    /**
+     * Gets the tile that the cached acceptor on the given side belongs to.
+     *
+     * @implNote Grabs the tile from cache
+     */
+    @Nullable
+    public TileEntity getConnectedAcceptorTile(Direction side) {
+        if (cachedAcceptors.containsKey(side)) {
+            TileEntity tile = cachedAcceptors.get(side).getTile();
+            if (!tile.isRemoved()) {
+                return tile;
+            }
+        }
+        return null;
+    }
+
     /**
      * @apiNote Only call this from the server side
      */
@@ -40,7 +40,7 @@ public class EnergyAcceptorCache extends AcceptorCache<IStrictEnergyHandler> {
                             updateCachedAcceptorAndListen(side, tile, (LazyOptional<IStrictEnergyHandler>) acceptor);
                         } else {
                             //Update the cache with the strict energy lazy optional as that is the one we interact with
-                            LazyOptional<IStrictEnergyHandler> wrappedAcceptor = energyCompat.getLazyStrictEnergyHandler(tile, opposite);
+                            LazyOptional<IStrictEnergyHandler> wrappedAcceptor = EnergyCompatUtils.wrapAsStrictEnergyHandler(tile, opposite, energyCompat, acceptor);
                             //Note: The wrapped acceptor should always be present, but double check just in case
                             if (wrappedAcceptor.isPresent()) {
                                 updateCachedAcceptorAndListen(side, tile, wrappedAcceptor, acceptor, false);
@@ -8,6 +8,7 @@ import java.util.Map.Entry;
 import java.util.Set;
 import mekanism.common.content.network.transmitter.Transmitter;
 import mekanism.common.lib.transmitter.TransmitterNetworkRegistry;
+import mekanism.common.util.EnumUtils;
 import net.minecraft.util.Direction;
 import net.minecraft.util.math.BlockPos;
 import net.minecraftforge.common.util.LazyOptional;
@@ -33,6 +34,23 @@ public class NetworkAcceptorCache<ACCEPTOR> {
         }
     }
 
+    /**
+     * Removes all the acceptors that the given transmitter had, for when it is no longer part of the network.
+     */
+    public void removeTransmitter(Transmitter<ACCEPTOR, ?, ?> transmitter) {
+        changedAcceptors.remove(transmitter);
+        for (Direction side : EnumUtils.DIRECTIONS) {
+            BlockPos acceptorPos = transmitter.getTilePos().offset(side);
+            Map<Direction, LazyOptional<ACCEPTOR>> cached = cachedAcceptors.get(acceptorPos);
+            if (cached != null) {
+                cached.remove(side.getOpposite());
+                if (cached.isEmpty()) {
+                    cachedAcceptors.remove(acceptorPos);
+                }
+            }
+        }
+    }
+
     public void adoptAcceptors(NetworkAcceptorCache<ACCEPTOR> other) {
         for (Entry<BlockPos, Map<Direction, LazyOptional<ACCEPTOR>>> entry : other.cachedAcceptors.entrySet()) {
             BlockPos pos = entry.getKey();
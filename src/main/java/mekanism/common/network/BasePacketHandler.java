@@ -2,6 +2,7 @@ package mekanism.common.network;
 
 import java.util.Optional;
 import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import mekanism.api.Range3D;
@@ -164,6 +165,33 @@ public abstract class BasePacketHandler {
     }
 
     public <MSG> void sendToReceivers(MSG message, DynamicBufferedNetwork<?, ?, ?, ?> network) {
+        forEachReceiver(network, player -> sendTo(message, player));
+    }
+
+    /**
+     * @return {@code true} if any players are in range of the given network.
+     */
+    public boolean hasReceivers(DynamicBufferedNetwork<?, ?, ?, ?> network) {
+        MinecraftServer server = ServerLifecycleHooks.getCurrentServer();
+        if (server != null) {
+            Range3D range = network.getPacketRange();
+            if (range != null) {
+                PlayerList playerList = server.getPlayerList();
+                int radius = playerList.getViewDistance() * 16;
+                for (ServerPlayerEntity player : playerList.getPlayers()) {
+                    if (isInRange(player, range, radius)) {
+                        return true;
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Runs the given action for each player that is in range of the given network.
+     */
+    public void forEachReceiver(DynamicBufferedNetwork<?, ?, ?, ?> network, Consumer<ServerPlayerEntity> action) {
         //TODO: Figure out why we have a try catch and remove the need for it
         try {
             //TODO: Create a method in DynamicNetwork to get all players that are "tracking" the network
@@ -172,22 +200,27 @@ public abstract class BasePacketHandler {
             if (server != null) {
                 Range3D range = network.getPacketRange();
                 PlayerList playerList = server.getPlayerList();
-                //Ignore height for partial Cubic chunks support as range comparision gets used ignoring player height normally anyways
                 int radius = playerList.getViewDistance() * 16;
                 for (ServerPlayerEntity player : playerList.getPlayers()) {
-                    if (range.dimension == player.func_241141_L_()) {
-                        BlockPos playerPosition = player.getPosition();
-                        int playerX = playerPosition.getX();
-                        int playerZ = playerPosition.getZ();
-                        //playerX/Z + radius is the max, so to stay in line with how it was before, it has an extra + 1 added to it
-                        if (playerX + radius + 1.99999 > range.xMin && range.xMax + 0.99999 > playerX - radius &&
-                            playerZ + radius + 1.99999 > range.zMin && range.zMax + 0.99999 > playerZ - radius) {
-                            sendTo(message, player);
-                        }
+                    if (isInRange(player, range, radius)) {
+                        action.accept(player);
                     }
                 }
             }
         } catch (Exception ignored) {
         }
     }
+
+    private static boolean isInRange(ServerPlayerEntity player, Range3D range, int radius) {
+        if (range.dimension == player.func_241141_L_()) {
+            //Ignore height for partial Cubic chunks support as range comparision gets used ignoring player height normally anyways
+            BlockPos playerPosition = player.getPosition();
+            int playerX = playerPosition.getX();
+            int playerZ = playerPosition.getZ();
+            //playerX/Z + radius is the max, so to stay in line with how it was before, it has an extra + 1 added to it
+            return playerX + radius + 1.99999 > range.xMin && range.xMax + 0.99999 > playerX - radius &&
+                   playerZ + radius + 1.99999 > range.zMin && range.zMax + 0.99999 > playerZ - radius;
+        }
+        return false;
+    }
 }
\ No newline at end of file
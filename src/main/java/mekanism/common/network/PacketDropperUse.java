@@ -11,9 +11,9 @@ import mekanism.api.chemical.ChemicalStack;
 import mekanism.api.chemical.IChemicalHandler;
 import mekanism.api.chemical.IChemicalTank;
 import mekanism.api.chemical.IMekanismChemicalHandler;
+import mekanism.api.chemical.gas.Gas;
 import mekanism.api.chemical.gas.GasStack;
 import mekanism.api.chemical.gas.IGasTank;
-import mekanism.api.chemical.gas.attribute.GasAttributes;
 import mekanism.api.fluid.IExtendedFluidTank;
 import mekanism.api.fluid.IMekanismFluidHandler;
 import mekanism.api.inventory.AutomationType;
@@ -121,9 +121,9 @@ public class PacketDropperUse {
                     //If the tank is a gas tank and has radioactive substances in it make sure we properly emit the radiation
                     // to the environment
                     GasStack gasStack = ((IGasTank) tank).getStack();
-                    if (gasStack.has(GasAttributes.Radiation.class)) {
-                        double radioactivity = gasStack.get(GasAttributes.Radiation.class).getRadioactivity();
-                        Mekanism.radiationManager.radiate(coord, radioactivity * gasStack.getAmount());
+                    Gas gas = gasStack.getType();
+                    if (gas.isRadioactive()) {
+                        Mekanism.radiationManager.radiate(coord, gas.getRadioactivity() * gasStack.getAmount());
                     }
                 }
                 tank.setEmpty();
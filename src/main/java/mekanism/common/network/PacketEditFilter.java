@@ -8,6 +8,7 @@ import mekanism.common.content.qio.filter.QIOFilter;
 import mekanism.common.content.transporter.SorterFilter;
 import mekanism.common.lib.HashList;
 import mekanism.common.tile.TileEntityLogisticalSorter;
+import mekanism.common.tile.interfaces.ITileFilterHolder;
 import mekanism.common.tile.machine.TileEntityDigitalMiner;
 import mekanism.common.tile.machine.TileEntityOredictionificator;
 import mekanism.common.tile.machine.TileEntityOredictionificator.OredictionificatorFilter;
@@ -78,6 +79,9 @@ public class PacketEditFilter {
                         }
                     }
                 }
+                if (tile instanceof ITileFilterHolder) {
+                    ((ITileFilterHolder<?>) tile).onFiltersChanged();
+                }
                 tile.markDirty();
             }
         });
@@ -1,19 +1,46 @@
 package mekanism.common.network;
 
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import java.util.Map;
 import mekanism.common.Mekanism;
+import mekanism.common.lib.transmitter.DynamicBufferedNetwork;
 import mekanism.common.network.container.PacketUpdateContainer;
 import mekanism.common.network.container.PacketUpdateContainerBatch;
+import net.minecraft.entity.player.ServerPlayerEntity;
 import net.minecraftforge.fml.network.simple.SimpleChannel;
 
 public class PacketHandler extends BasePacketHandler {
 
     private static final SimpleChannel netHandler = createChannel(Mekanism.rl(Mekanism.MODID));
 
+    /**
+     * Transmitter network updates that are waiting to be sent at the end of the tick, batched per player.
+     */
+    private final Map<ServerPlayerEntity, PacketTransmitterUpdate> pendingTransmitterUpdates = new Object2ObjectOpenHashMap<>();
+
     @Override
     protected SimpleChannel getChannel() {
         return netHandler;
     }
 
+    /**
+     * Queues an update of the contents of a network to be sent to all the players in range of it, batched with any other network updates that get sent to the same
+     * player this tick.
+     */
+    public void queueTransmitterUpdate(PacketTransmitterUpdate update, DynamicBufferedNetwork<?, ?, ?, ?> network) {
+        forEachReceiver(network, player -> pendingTransmitterUpdates.computeIfAbsent(player, p -> new PacketTransmitterUpdate()).add(update));
+    }
+
+    /**
+     * Sends the transmitter network updates that were queued this tick.
+     */
+    public void sendTransmitterUpdates() {
+        if (!pendingTransmitterUpdates.isEmpty()) {
+            pendingTransmitterUpdates.forEach((player, update) -> sendTo(update, player));
+            pendingTransmitterUpdates.clear();
+        }
+    }
+
     @Override
     public void initialize() {
         //Client to server messages
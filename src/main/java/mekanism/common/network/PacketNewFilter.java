@@ -7,6 +7,7 @@ import mekanism.common.content.miner.MinerFilter;
 import mekanism.common.content.qio.filter.QIOFilter;
 import mekanism.common.content.transporter.SorterFilter;
 import mekanism.common.tile.TileEntityLogisticalSorter;
+import mekanism.common.tile.interfaces.ITileFilterHolder;
 import mekanism.common.tile.machine.TileEntityDigitalMiner;
 import mekanism.common.tile.machine.TileEntityOredictionificator;
 import mekanism.common.tile.machine.TileEntityOredictionificator.OredictionificatorFilter;
@@ -45,6 +46,9 @@ public class PacketNewFilter {
                 } else if (message.filter instanceof QIOFilter && tile instanceof TileEntityQIOFilterHandler) {
                     ((TileEntityQIOFilterHandler) tile).getFilters().add((QIOFilter<?>) message.filter);
                 }
+                if (tile instanceof ITileFilterHolder) {
+                    ((ITileFilterHolder<?>) tile).onFiltersChanged();
+                }
                 tile.markDirty();
             }
         });
@@ -1,5 +1,7 @@
 package mekanism.common.network;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.UUID;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
@@ -18,36 +20,39 @@ import net.minecraftforge.fml.network.NetworkEvent.Context;
 
 public class PacketTransmitterUpdate {
 
-    private final PacketType packetType;
-    private final UUID networkID;
-    private final float scale;
-    @Nonnull
-    private BoxedChemical chemical = BoxedChemical.EMPTY;
-    @Nonnull
-    private FluidStack fluidStack = FluidStack.EMPTY;
+    /**
+     * Updates keyed by the network they are for, so that when batching only the latest update of each network gets sent.
+     */
+    private final Map<UUID, NetworkUpdate> updates = new LinkedHashMap<>();
+
+    public PacketTransmitterUpdate() {
+    }
 
     public PacketTransmitterUpdate(EnergyNetwork network) {
-        this(network, PacketType.ENERGY);
+        add(new NetworkUpdate(network, PacketType.ENERGY));
     }
 
     public PacketTransmitterUpdate(BoxedChemicalNetwork network, @Nonnull BoxedChemical chemical) {
-        this(network, PacketType.CHEMICAL);
-        this.chemical = chemical;
+        NetworkUpdate update = new NetworkUpdate(network, PacketType.CHEMICAL);
+        update.chemical = chemical;
+        add(update);
     }
 
     public PacketTransmitterUpdate(FluidNetwork network, @Nonnull FluidStack fluidStack) {
-        this(network, PacketType.FLUID);
-        this.fluidStack = fluidStack;
+        NetworkUpdate update = new NetworkUpdate(network, PacketType.FLUID);
+        update.fluidStack = fluidStack;
+        add(update);
     }
 
-    private PacketTransmitterUpdate(DynamicBufferedNetwork<?, ?, ?, ?> network, PacketType type) {
-        this(type, network.getUUID(), network.currentScale);
+    private void add(NetworkUpdate update) {
+        updates.put(update.networkID, update);
     }
 
-    private PacketTransmitterUpdate(PacketType type, UUID networkID, float scale) {
-        packetType = type;
-        this.networkID = networkID;
-        this.scale = scale;
+    /**
+     * Adds all the updates of the given packet to this packet, replacing any older updates this packet has for the same networks.
+     */
+    public void add(PacketTransmitterUpdate other) {
+        updates.putAll(other.updates);
     }
 
     public static void handle(PacketTransmitterUpdate message, Supplier<Context> context) {
@@ -55,44 +60,83 @@ public class PacketTransmitterUpdate {
         if (player == null) {
             return;
         }
-        context.get().enqueueWork(() -> {
-            DynamicNetwork<?, ?, ?> clientNetwork = TransmitterNetworkRegistry.getInstance().getClientNetwork(message.networkID);
-            if (clientNetwork != null && message.packetType.networkTypeMatches(clientNetwork)) {
-                //Note: We set the information even if opaque transmitters is true in case the client turns the config setting off
-                // so that they will have the proper information to then render
-                if (message.packetType == PacketType.CHEMICAL) {
-                    ((BoxedChemicalNetwork) clientNetwork).setLastChemical(message.chemical);
-                } else if (message.packetType == PacketType.FLUID) {
-                    ((FluidNetwork) clientNetwork).setLastFluid(message.fluidStack);
-                }
-                ((DynamicBufferedNetwork<?, ?, ?, ?>) clientNetwork).currentScale = message.scale;
-            }
-        });
+        context.get().enqueueWork(() -> message.updates.values().forEach(NetworkUpdate::handle));
         context.get().setPacketHandled(true);
     }
 
     public static void encode(PacketTransmitterUpdate pkt, PacketBuffer buf) {
-        buf.writeEnumValue(pkt.packetType);
-        buf.writeUniqueId(pkt.networkID);
-        buf.writeFloat(pkt.scale);
-        BasePacketHandler.log("Sending '" + pkt.packetType + "' update message for network with id " + pkt.networkID);
-        if (pkt.packetType == PacketType.FLUID) {
-            pkt.fluidStack.writeToPacket(buf);
-        } else if (pkt.packetType == PacketType.CHEMICAL) {
-            pkt.chemical.write(buf);
+        buf.writeVarInt(pkt.updates.size());
+        for (NetworkUpdate update : pkt.updates.values()) {
+            update.write(buf);
         }
     }
 
     public static PacketTransmitterUpdate decode(PacketBuffer buf) {
-        PacketTransmitterUpdate packet = new PacketTransmitterUpdate(buf.readEnumValue(PacketType.class), buf.readUniqueId(), buf.readFloat());
-        if (packet.packetType == PacketType.FLUID) {
-            packet.fluidStack = FluidStack.readFromPacket(buf);
-        } else if (packet.packetType == PacketType.CHEMICAL) {
-            packet.chemical = BoxedChemical.read(buf);
+        PacketTransmitterUpdate packet = new PacketTransmitterUpdate();
+        int count = buf.readVarInt();
+        for (int i = 0; i < count; i++) {
+            packet.add(NetworkUpdate.read(buf));
         }
         return packet;
     }
 
+    private static class NetworkUpdate {
+
+        private final PacketType packetType;
+        private final UUID networkID;
+        private final float scale;
+        @Nonnull
+        private BoxedChemical chemical = BoxedChemical.EMPTY;
+        @Nonnull
+        private FluidStack fluidStack = FluidStack.EMPTY;
+
+        private NetworkUpdate(DynamicBufferedNetwork<?, ?, ?, ?> network, PacketType type) {
+            this(type, network.getUUID(), network.currentScale);
+        }
+
+        private NetworkUpdate(PacketType type, UUID networkID, float scale) {
+            packetType = type;
+            this.networkID = networkID;
+            this.scale = scale;
+        }
+
+        private void handle() {
+            DynamicNetwork<?, ?, ?> clientNetwork = TransmitterNetworkRegistry.getInstance().getClientNetwork(networkID);
+            if (clientNetwork != null && packetType.networkTypeMatches(clientNetwork)) {
+                //Note: We set the information even if opaque transmitters is true in case the client turns the config setting off
+                // so that they will have the proper information to then render
+                if (packetType == PacketType.CHEMICAL) {
+                    ((BoxedChemicalNetwork) clientNetwork).setLastChemical(chemical);
+                } else if (packetType == PacketType.FLUID) {
+                    ((FluidNetwork) clientNetwork).setLastFluid(fluidStack);
+                }
+                ((DynamicBufferedNetwork<?, ?, ?, ?>) clientNetwork).currentScale = scale;
+            }
+        }
+
+        private void write(PacketBuffer buf) {
+            buf.writeEnumValue(packetType);
+            buf.writeUniqueId(networkID);
+            buf.writeFloat(scale);
+            BasePacketHandler.log("Sending '" + packetType + "' update message for network with id " + networkID);
+            if (packetType == PacketType.FLUID) {
+                fluidStack.writeToPacket(buf);
+            } else if (packetType == PacketType.CHEMICAL) {
+                chemical.write(buf);
+            }
+        }
+
+        private static NetworkUpdate read(PacketBuffer buf) {
+            NetworkUpdate update = new NetworkUpdate(buf.readEnumValue(PacketType.class), buf.readUniqueId(), buf.readFloat());
+            if (update.packetType == PacketType.FLUID) {
+                update.fluidStack = FluidStack.readFromPacket(buf);
+            } else if (update.packetType == PacketType.CHEMICAL) {
+                update.chemical = BoxedChemical.read(buf);
+            }
+            return update;
+        }
+    }
+
     public enum PacketType {
         ENERGY(net -> net instanceof EnergyNetwork),
         FLUID(net -> net instanceof FluidNetwork),
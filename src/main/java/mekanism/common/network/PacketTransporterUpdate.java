@@ -4,62 +4,64 @@ import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
 import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
 import it.unimi.dsi.fastutil.ints.IntOpenHashSet;
 import it.unimi.dsi.fastutil.ints.IntSet;
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Reference2IntMap;
+import it.unimi.dsi.fastutil.objects.Reference2IntOpenHashMap;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.function.Supplier;
+import javax.annotation.Nullable;
 import mekanism.common.content.network.transmitter.DiversionTransporter;
 import mekanism.common.content.network.transmitter.DiversionTransporter.DiversionControl;
 import mekanism.common.content.network.transmitter.LogisticalTransporterBase;
 import mekanism.common.content.transporter.TransporterStack;
+import mekanism.common.lib.inventory.HashedItem;
 import mekanism.common.tile.transmitter.TileEntityLogisticalTransporterBase;
 import mekanism.common.util.EnumUtils;
 import mekanism.common.util.MekanismUtils;
 import net.minecraft.entity.player.PlayerEntity;
+import net.minecraft.item.ItemStack;
 import net.minecraft.network.PacketBuffer;
 import net.minecraft.util.math.BlockPos;
 import net.minecraftforge.fml.network.NetworkEvent.Context;
 
+/**
+ * Batched update of the stacks in transit for all transporters in a chunk that changed during a tick. The distinct item types being synced are written once at the
+ * start of the packet and the individual stacks then only reference them by index.
+ */
 public class PacketTransporterUpdate {
 
-    //Generic
-    private final boolean isDiversion;
-    private final boolean isSync;
-    private final BlockPos pos;
+    private final Map<BlockPos, TransporterChanges> changes;
 
-    private LogisticalTransporterBase transporter;
-    private DiversionControl[] modes;
-
-    //Sync
-    private int stackId;
-    private TransporterStack stack;
-    //Batch
-    private Int2ObjectMap<TransporterStack> updates;
-    private IntSet deletes;
+    public PacketTransporterUpdate() {
+        this(new LinkedHashMap<>());
+    }
 
-    public PacketTransporterUpdate(LogisticalTransporterBase tile, int stackId, TransporterStack stack) {
-        this(tile, true);
-        this.stackId = stackId;
-        this.stack = stack;
+    public PacketTransporterUpdate(LogisticalTransporterBase transporter, Int2ObjectMap<TransporterStack> updates, IntSet deletes) {
+        this();
+        add(transporter, updates, deletes);
     }
 
-    public PacketTransporterUpdate(LogisticalTransporterBase tile, Int2ObjectMap<TransporterStack> updates, IntSet deletes) {
-        this(tile, false);
-        this.updates = updates;
-        this.deletes = deletes;
+    private PacketTransporterUpdate(Map<BlockPos, TransporterChanges> changes) {
+        this.changes = changes;
     }
 
-    private PacketTransporterUpdate(LogisticalTransporterBase transporter, boolean isSync) {
-        this.isSync = isSync;
-        this.pos = transporter.getTilePos();
-        this.isDiversion = transporter instanceof DiversionTransporter;
-        if (this.isDiversion) {
-            this.modes = ((DiversionTransporter) transporter).modes;
-        }
-        this.transporter = transporter;
+    /**
+     * Adds the given changes for a transporter to this packet, merging them with any changes that were already added for the transporter.
+     *
+     * @apiNote The updates and deletes are copied so the caller is free to clear them afterwards.
+     */
+    public void add(LogisticalTransporterBase transporter, Int2ObjectMap<TransporterStack> updates, IntSet deletes) {
+        TransporterChanges transporterChanges = changes.computeIfAbsent(transporter.getTilePos(), pos -> new TransporterChanges(pos, transporter));
+        transporterChanges.updates.putAll(updates);
+        transporterChanges.deletes.addAll(deletes);
     }
 
-    private PacketTransporterUpdate(BlockPos pos, boolean isSync, boolean isDiversion) {
-        this.pos = pos;
-        this.isSync = isSync;
-        this.isDiversion = isDiversion;
+    public boolean isEmpty() {
+        return changes.isEmpty();
     }
 
     public static void handle(PacketTransporterUpdate message, Supplier<Context> context) {
@@ -68,22 +70,20 @@ public class PacketTransporterUpdate {
             return;
         }
         context.get().enqueueWork(() -> {
-            TileEntityLogisticalTransporterBase tile = MekanismUtils.getTileEntity(TileEntityLogisticalTransporterBase.class, player.world, message.pos);
-            if (tile != null) {
-                LogisticalTransporterBase transporter = tile.getTransmitter();
-                if (message.isSync) {
-                    transporter.addStack(message.stackId, message.stack);
-                } else {
-                    for (Int2ObjectMap.Entry<TransporterStack> entry : message.updates.int2ObjectEntrySet()) {
+            for (TransporterChanges transporterChanges : message.changes.values()) {
+                TileEntityLogisticalTransporterBase tile = MekanismUtils.getTileEntity(TileEntityLogisticalTransporterBase.class, player.world, transporterChanges.pos);
+                if (tile != null) {
+                    LogisticalTransporterBase transporter = tile.getTransmitter();
+                    for (Int2ObjectMap.Entry<TransporterStack> entry : transporterChanges.updates.int2ObjectEntrySet()) {
                         transporter.addStack(entry.getIntKey(), entry.getValue());
                     }
-                    for (int toDelete : message.deletes) {
+                    for (int toDelete : transporterChanges.deletes) {
                         transporter.deleteStack(toDelete);
                     }
-                }
-                if (message.isDiversion && transporter instanceof DiversionTransporter) {
-                    //Copy the values of modes, without replacing the actual array
-                    System.arraycopy(message.modes, 0, ((DiversionTransporter) transporter).modes, 0, message.modes.length);
+                    if (transporterChanges.modes != null && transporter instanceof DiversionTransporter) {
+                        //Copy the values of modes, without replacing the actual array
+                        System.arraycopy(transporterChanges.modes, 0, ((DiversionTransporter) transporter).modes, 0, transporterChanges.modes.length);
+                    }
                 }
             }
         });
@@ -91,57 +91,94 @@ public class PacketTransporterUpdate {
     }
 
     public static void encode(PacketTransporterUpdate pkt, PacketBuffer buf) {
-        buf.writeBlockPos(pkt.pos);
-        buf.writeBoolean(pkt.isSync);
-        buf.writeBoolean(pkt.isDiversion);
-        if (pkt.isSync) {
-            //Sync
-            buf.writeVarInt(pkt.stackId);
-            pkt.stack.write(pkt.transporter, buf);
-        } else {
-            //Batch
-            buf.writeVarInt(pkt.updates.size());
-            for (Int2ObjectMap.Entry<TransporterStack> entry : pkt.updates.int2ObjectEntrySet()) {
+        //Build the dictionary of distinct item types in this packet
+        Object2IntMap<HashedItem> itemIndices = new Object2IntOpenHashMap<>();
+        itemIndices.defaultReturnValue(-1);
+        Reference2IntMap<ItemStack> stackIndices = new Reference2IntOpenHashMap<>();
+        List<ItemStack> itemTypes = new ArrayList<>();
+        for (TransporterChanges transporterChanges : pkt.changes.values()) {
+            for (TransporterStack stack : transporterChanges.updates.values()) {
+                HashedItem type = new HashedItem(stack.itemStack);
+                int index = itemIndices.getInt(type);
+                if (index == -1) {
+                    index = itemTypes.size();
+                    itemIndices.put(type, index);
+                    itemTypes.add(type.getStack());
+                }
+                stackIndices.put(stack.itemStack, index);
+            }
+        }
+        buf.writeVarInt(itemTypes.size());
+        for (ItemStack itemType : itemTypes) {
+            buf.writeItemStack(itemType);
+        }
+        buf.writeVarInt(pkt.changes.size());
+        for (TransporterChanges transporterChanges : pkt.changes.values()) {
+            buf.writeBlockPos(transporterChanges.pos);
+            buf.writeVarInt(transporterChanges.updates.size());
+            for (Int2ObjectMap.Entry<TransporterStack> entry : transporterChanges.updates.int2ObjectEntrySet()) {
                 buf.writeVarInt(entry.getIntKey());
-                entry.getValue().write(pkt.transporter, buf);
+                entry.getValue().write(transporterChanges.transporter, buf, stackIndices::getInt);
             }
-            buf.writeVarInt(pkt.deletes.size());
-            for (int toDelete : pkt.deletes) {
+            buf.writeVarInt(transporterChanges.deletes.size());
+            for (int toDelete : transporterChanges.deletes) {
                 buf.writeVarInt(toDelete);
             }
-        }
-        if (pkt.isDiversion) {
-            for (int i = 0; i < pkt.modes.length; i++) {
-                buf.writeEnumValue(pkt.modes[i]);
+            buf.writeBoolean(transporterChanges.modes != null);
+            if (transporterChanges.modes != null) {
+                for (DiversionControl mode : transporterChanges.modes) {
+                    buf.writeEnumValue(mode);
+                }
             }
         }
     }
 
     public static PacketTransporterUpdate decode(PacketBuffer buf) {
-        PacketTransporterUpdate packet = new PacketTransporterUpdate(buf.readBlockPos(), buf.readBoolean(), buf.readBoolean());
-        if (packet.isSync) {
-            //Sync
-            packet.stackId = buf.readVarInt();
-            packet.stack = TransporterStack.readFromPacket(buf);
-        } else {
-            //Batch
+        int typeCount = buf.readVarInt();
+        List<ItemStack> itemTypes = new ArrayList<>(typeCount);
+        for (int i = 0; i < typeCount; i++) {
+            itemTypes.add(buf.readItemStack());
+        }
+        int changeCount = buf.readVarInt();
+        Map<BlockPos, TransporterChanges> changes = new LinkedHashMap<>(changeCount);
+        for (int i = 0; i < changeCount; i++) {
+            TransporterChanges transporterChanges = new TransporterChanges(buf.readBlockPos(), null);
             int updatesSize = buf.readVarInt();
-            packet.updates = new Int2ObjectOpenHashMap<>(updatesSize);
-            for (int i = 0; i < updatesSize; i++) {
-                packet.updates.put(buf.readVarInt(), TransporterStack.readFromPacket(buf));
+            for (int j = 0; j < updatesSize; j++) {
+                transporterChanges.updates.put(buf.readVarInt(), TransporterStack.readFromPacket(transporterChanges.pos, buf, itemTypes::get));
             }
             int deletesSize = buf.readVarInt();
-            packet.deletes = new IntOpenHashSet(deletesSize);
-            for (int i = 0; i < deletesSize; i++) {
-                packet.deletes.add(buf.readVarInt());
+            for (int j = 0; j < deletesSize; j++) {
+                transporterChanges.deletes.add(buf.readVarInt());
+            }
+            if (buf.readBoolean()) {
+                transporterChanges.modes = new DiversionControl[EnumUtils.DIRECTIONS.length];
+                for (int j = 0; j < transporterChanges.modes.length; j++) {
+                    transporterChanges.modes[j] = buf.readEnumValue(DiversionControl.class);
+                }
             }
+            changes.put(transporterChanges.pos, transporterChanges);
         }
-        if (packet.isDiversion) {
-            packet.modes = new DiversionControl[EnumUtils.DIRECTIONS.length];
-            for (int i = 0; i < packet.modes.length; i++) {
-                packet.modes[i] = buf.readEnumValue(DiversionControl.class);
+        return new PacketTransporterUpdate(changes);
+    }
+
+    private static class TransporterChanges {
+
+        private final Int2ObjectMap<TransporterStack> updates = new Int2ObjectOpenHashMap<>();
+        private final IntSet deletes = new IntOpenHashSet();
+        private final BlockPos pos;
+        //Only present on the server side
+        @Nullable
+        private final LogisticalTransporterBase transporter;
+        @Nullable
+        private DiversionControl[] modes;
+
+        private TransporterChanges(BlockPos pos, @Nullable LogisticalTransporterBase transporter) {
+            this.pos = pos;
+            this.transporter = transporter;
+            if (transporter instanceof DiversionTransporter) {
+                this.modes = ((DiversionTransporter) transporter).modes;
             }
         }
-        return packet;
     }
-}
\ No newline at end of file
+}
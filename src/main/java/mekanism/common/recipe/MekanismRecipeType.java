@@ -31,6 +31,8 @@ import mekanism.api.recipes.RotaryRecipe;
 import mekanism.api.recipes.SawmillRecipe;
 import mekanism.api.recipes.inputs.ItemStackIngredient;
 import mekanism.common.Mekanism;
+import mekanism.common.lib.perf.PerfSection;
+import mekanism.common.lib.perf.PerfTracker;
 import mekanism.common.recipe.impl.SmeltingIRecipe;
 import net.minecraft.inventory.IInventory;
 import net.minecraft.item.ItemStack;
@@ -48,6 +50,7 @@ import net.minecraftforge.registries.IForgeRegistry;
 public class MekanismRecipeType<RECIPE_TYPE extends MekanismRecipe> implements IRecipeType<RECIPE_TYPE> {
 
     private static final List<MekanismRecipeType<? extends MekanismRecipe>> types = new ArrayList<>();
+    private static int cacheGeneration;
 
     public static final MekanismRecipeType<ItemStackToItemStackRecipe> CRUSHING = create("crushing");
     public static final MekanismRecipeType<ItemStackToItemStackRecipe> ENRICHING = create("enriching");
@@ -105,6 +108,14 @@ public class MekanismRecipeType<RECIPE_TYPE extends MekanismRecipe> implements I
     public static void clearCache() {
         //TODO: Does this need to also get cleared on disconnect
         types.forEach(type -> type.cachedRecipes.clear());
+        cacheGeneration++;
+    }
+
+    /**
+     * @return A counter that changes every time the recipe caches get cleared, for things that need to check if recipes may have changed since they last looked.
+     */
+    public static int getCacheGeneration() {
+        return cacheGeneration;
     }
 
     private List<RECIPE_TYPE> cachedRecipes = Collections.emptyList();
@@ -172,10 +183,16 @@ public class MekanismRecipeType<RECIPE_TYPE extends MekanismRecipe> implements I
 
     @Nullable
     public RECIPE_TYPE findFirst(@Nullable World world, Predicate<RECIPE_TYPE> matchCriteria) {
-        return stream(world).filter(matchCriteria).findFirst().orElse(null);
+        long start = PerfTracker.start();
+        RECIPE_TYPE recipe = stream(world).filter(matchCriteria).findFirst().orElse(null);
+        PerfTracker.end(PerfSection.RECIPE_LOOKUP, start);
+        return recipe;
     }
 
     public boolean contains(@Nullable World world, Predicate<RECIPE_TYPE> matchCriteria) {
-        return stream(world).anyMatch(matchCriteria);
+        long start = PerfTracker.start();
+        boolean contains = stream(world).anyMatch(matchCriteria);
+        PerfTracker.end(PerfSection.RECIPE_LOOKUP, start);
+        return contains;
     }
 }
\ No newline at end of file
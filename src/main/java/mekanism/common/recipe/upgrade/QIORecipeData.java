@@ -5,14 +5,12 @@ import it.unimi.dsi.fastutil.objects.Object2LongMap.Entry;
 import it.unimi.dsi.fastutil.objects.Object2LongOpenHashMap;
 import javax.annotation.Nullable;
 import javax.annotation.ParametersAreNonnullByDefault;
-import mekanism.api.NBTConstants;
 import mekanism.api.annotations.FieldsAreNonnullByDefault;
 import mekanism.common.content.qio.IQIODriveItem;
 import mekanism.common.content.qio.IQIODriveItem.DriveMetadata;
 import mekanism.common.content.qio.QIODriveData;
 import mekanism.common.content.qio.QIODriveData.QIODriveKey;
 import mekanism.common.lib.inventory.HashedItem;
-import mekanism.common.util.ItemDataUtils;
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.CompoundNBT;
 import net.minecraft.nbt.ListNBT;
@@ -28,14 +26,13 @@ public class QIORecipeData implements RecipeUpgradeData<QIORecipeData> {
     private final Object2LongMap<HashedItem> itemMap;
     private final long itemCount;
 
-    QIORecipeData(DriveMetadata data, ListNBT nbtItemMap) {
+    QIORecipeData(DriveMetadata data, ItemStack stack) {
         itemCount = data.getCount();
         itemMap = new Object2LongOpenHashMap<>(data.getTypes());
-        for (int i = 0; i < nbtItemMap.size(); i++) {
-            CompoundNBT tag = nbtItemMap.getCompound(i);
-            ItemStack itemType = ItemStack.read(tag.getCompound(NBTConstants.ITEM));
-            itemMap.put(new HashedItem(itemType), tag.getLong(NBTConstants.AMOUNT));
-        }
+        IQIODriveItem.readStoredTypes(stack, (typeTag, count) -> {
+            HashedItem type = new HashedItem(ItemStack.read(typeTag));
+            itemMap.put(type, itemMap.getLong(type) + count);
+        });
     }
 
     private QIORecipeData(Object2LongMap<HashedItem> itemMap, long itemCount) {
@@ -67,14 +64,14 @@ public class QIORecipeData implements RecipeUpgradeData<QIORecipeData> {
             // then return that we are not able to actually apply them to the stack
             return false;
         }
-        ListNBT list = new ListNBT();
+        ListNBT types = new ListNBT();
+        long[] counts = new long[itemMap.size()];
+        int index = 0;
         for (Entry<HashedItem> entry : itemMap.object2LongEntrySet()) {
-            CompoundNBT tag = new CompoundNBT();
-            tag.put(NBTConstants.ITEM, entry.getKey().getStack().write(new CompoundNBT()));
-            tag.putLong(NBTConstants.AMOUNT, entry.getLongValue());
-            list.add(tag);
+            types.add(entry.getKey().getStack().write(new CompoundNBT()));
+            counts[index++] = entry.getLongValue();
         }
-        ItemDataUtils.setList(stack, NBTConstants.QIO_ITEM_MAP, list);
+        IQIODriveItem.writeStoredTypes(stack, types, counts);
         DriveMetadata meta = new DriveMetadata(itemCount, itemMap.size());
         meta.write(stack);
         return true;
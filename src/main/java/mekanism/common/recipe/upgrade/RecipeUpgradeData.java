@@ -133,7 +133,7 @@ public interface RecipeUpgradeData<TYPE extends RecipeUpgradeData<TYPE>> {
                 DriveMetadata data = DriveMetadata.load(stack);
                 if (data.getCount() > 0 && ((IQIODriveItem) item).hasStoredItemMap(stack)) {
                     //If we don't have any stored items don't actually grab any recipe data
-                    return new QIORecipeData(data, ItemDataUtils.getList(stack, NBTConstants.QIO_ITEM_MAP));
+                    return new QIORecipeData(data, stack);
                 }
                 break;
         }
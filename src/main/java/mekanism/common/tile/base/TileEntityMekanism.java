@@ -15,9 +15,9 @@ import mekanism.api.DataHandlerUtils;
 import mekanism.api.IMekWrench;
 import mekanism.api.NBTConstants;
 import mekanism.api.Upgrade;
+import mekanism.api.chemical.gas.Gas;
 import mekanism.api.chemical.gas.GasStack;
 import mekanism.api.chemical.gas.IGasTank;
-import mekanism.api.chemical.gas.attribute.GasAttributes;
 import mekanism.api.chemical.infuse.IInfusionTank;
 import mekanism.api.chemical.pigment.IPigmentTank;
 import mekanism.api.chemical.slurry.ISlurryTank;
@@ -47,6 +47,7 @@ import mekanism.common.block.attribute.Attributes.AttributeRedstone;
 import mekanism.common.block.attribute.Attributes.AttributeSecurity;
 import mekanism.common.block.interfaces.IHasTileEntity;
 import mekanism.common.capabilities.Capabilities;
+import mekanism.common.capabilities.NeighborCapabilityCache;
 import mekanism.common.capabilities.energy.MachineEnergyContainer;
 import mekanism.common.capabilities.heat.BasicHeatCapacitor;
 import mekanism.common.capabilities.heat.ITileHeatHandler;
@@ -81,6 +82,7 @@ import mekanism.common.item.ItemConfigurator;
 import mekanism.common.lib.frequency.IFrequencyHandler;
 import mekanism.common.lib.frequency.TileComponentFrequency;
 import mekanism.common.lib.security.ISecurityTile;
+import mekanism.common.recipe.MekanismRecipeType;
 import mekanism.common.tile.component.ITileComponent;
 import mekanism.common.tile.component.TileComponentConfig;
 import mekanism.common.tile.component.TileComponentSecurity;
@@ -141,6 +143,7 @@ public abstract class TileEntityMekanism extends CapabilityTileEntity implements
     public int ticker;
     private final List<ICapabilityHandlerManager<?>> capabilityHandlerManagers = new ArrayList<>();
     private final List<ITileComponent> components = new ArrayList<>();
+    private final NeighborCapabilityCache neighborCapabilityCache = new NeighborCapabilityCache(this);
 
     protected final IBlockProvider blockProvider;
 
@@ -231,6 +234,19 @@ public abstract class TileEntityMekanism extends CapabilityTileEntity implements
     private int playSoundCooldown = 0;
     //End variables ITileSound
 
+    //Variables for handling sleeping
+    /**
+     * How many consecutive idle ticks a tile that supports sleeping has to have before it goes to sleep.
+     */
+    private static final int IDLE_TICKS_BEFORE_SLEEP = 20;
+    private boolean sleeping;
+    /**
+     * Recipe cache generation when this tile went to sleep, see {@link MekanismRecipeType#getCacheGeneration()}.
+     */
+    private int sleepRecipeGeneration;
+    private int idleTicks;
+    //End variables for sleeping
+
     public TileEntityMekanism(IBlockProvider blockProvider) {
         super(((IHasTileEntity<? extends TileEntity>) blockProvider.getBlock()).getTileType());
         this.blockProvider = blockProvider;
@@ -399,6 +415,13 @@ public abstract class TileEntityMekanism extends CapabilityTileEntity implements
         return TextComponentUtil.translate(Util.makeTranslationKey("container", getBlockType().getRegistryName()));
     }
 
+    @Override
+    public void markDirty(boolean recheckBlockState) {
+        super.markDirty(recheckBlockState);
+        //Something about us changed, make sure we process it
+        wakeUp();
+    }
+
     @Override
     public void markDirtyComparator() {
         //Only update the comparator state if we support comparators
@@ -466,6 +489,14 @@ public abstract class TileEntityMekanism extends CapabilityTileEntity implements
 
     @Override
     public void tick() {
+        if (sleeping) {
+            if (sleepRecipeGeneration == MekanismRecipeType.getCacheGeneration()) {
+                //Sleeping tiles have nothing to do until something wakes them up
+                return;
+            }
+            //Recipes got reloaded, so there may be something for us to do now
+            wakeUp();
+        }
         for (ITileComponent component : components) {
             component.tick();
         }
@@ -495,6 +526,14 @@ public abstract class TileEntityMekanism extends CapabilityTileEntity implements
                 // we use persists, as only one reference should update
                 updateHeatCapacitors(null);
             }
+            if (canSleep() && isIdle()) {
+                if (++idleTicks >= IDLE_TICKS_BEFORE_SLEEP) {
+                    sleeping = true;
+                    sleepRecipeGeneration = MekanismRecipeType.getCacheGeneration();
+                }
+            } else {
+                idleTicks = 0;
+            }
             lastEnergyReceived = FloatingLong.ZERO;
         }
         ticker++;
@@ -503,7 +542,42 @@ public abstract class TileEntityMekanism extends CapabilityTileEntity implements
         }
     }
 
+    /**
+     * Whether this tile is allowed to stop ticking while it is idle. Implementations should only return {@code true} if {@link #onUpdateServer()} has nothing to do
+     * until the contents, redstone state, or neighbors of this tile change.
+     *
+     * @return {@code true} if this tile can currently go to sleep.
+     */
+    protected boolean canSleep() {
+        return false;
+    }
+
+    private boolean isIdle() {
+        if (currentActive || updateDelay > 0 || !lastEnergyReceived.isZero() || !playersUsing.isEmpty() || (supportsRedstone() && redstone != redstoneLastTick)) {
+            return false;
+        }
+        for (ITileComponent component : components) {
+            if (!component.isIdle()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public boolean isSleeping() {
+        return sleeping;
+    }
+
+    /**
+     * Wakes this tile up if it is sleeping so that it starts ticking again.
+     */
+    public void wakeUp() {
+        sleeping = false;
+        idleTicks = 0;
+    }
+
     public void open(PlayerEntity player) {
+        wakeUp();
         playersUsing.add(player);
     }
 
@@ -514,6 +588,7 @@ public abstract class TileEntityMekanism extends CapabilityTileEntity implements
     @Override
     public void remove() {
         super.remove();
+        neighborCapabilityCache.clear();
         for (ITileComponent component : components) {
             component.invalidate();
         }
@@ -533,9 +608,9 @@ public abstract class TileEntityMekanism extends CapabilityTileEntity implements
             // then dump that radioactivity into the air
             if (!gasTank.isEmpty()) {
                 GasStack stack = gasTank.getStack();
-                if (stack.has(GasAttributes.Radiation.class)) {
-                    double radioactivity = stack.get(GasAttributes.Radiation.class).getRadioactivity();
-                    Mekanism.radiationManager.radiate(Coord4D.get(this), radioactivity * stack.getAmount());
+                Gas type = stack.getType();
+                if (type.isRadioactive()) {
+                    Mekanism.radiationManager.radiate(Coord4D.get(this), type.getRadioactivity() * stack.getAmount());
                 }
             }
         }
@@ -544,6 +619,7 @@ public abstract class TileEntityMekanism extends CapabilityTileEntity implements
     @Override
     public void onChunkUnloaded() {
         super.onChunkUnloaded();
+        neighborCapabilityCache.clear();
         for (ITileComponent component : components) {
             component.onChunkUnload();
         }
@@ -707,6 +783,8 @@ public abstract class TileEntityMekanism extends CapabilityTileEntity implements
     }
 
     public void onNeighborChange(Block block, BlockPos neighborPos) {
+        neighborCapabilityCache.invalidate(neighborPos);
+        wakeUp();
         if (!isRemote() && supportsRedstone()) {
             updatePower();
         }
@@ -721,6 +799,13 @@ public abstract class TileEntityMekanism extends CapabilityTileEntity implements
         }
     }
 
+    /**
+     * @return Cache of the capabilities our neighbors expose towards us, for things that look them up every tick.
+     */
+    public NeighborCapabilityCache getNeighborCapabilityCache() {
+        return neighborCapabilityCache;
+    }
+
     @Override
     public TileComponentFrequency getFrequencyComponent() {
         return frequencyComponent;
@@ -781,6 +866,7 @@ public abstract class TileEntityMekanism extends CapabilityTileEntity implements
     private void updatePower() {
         boolean power = world.isBlockPowered(getPos());
         if (redstone != power) {
+            wakeUp();
             redstone = power;
             onPowerChange();
         }
@@ -822,6 +908,7 @@ public abstract class TileEntityMekanism extends CapabilityTileEntity implements
 
     @Override
     public void recalculateUpgrades(Upgrade upgrade) {
+        wakeUp();
         if (upgrade == Upgrade.SPEED) {
             for (IEnergyContainer energyContainer : getEnergyContainers(null)) {
                 if (energyContainer instanceof MachineEnergyContainer) {
@@ -967,8 +1054,7 @@ public abstract class TileEntityMekanism extends CapabilityTileEntity implements
     @Override
     public IHeatHandler getAdjacent(Direction side) {
         if (canHandleHeat() && getHeatCapacitorCount(side) > 0) {
-            TileEntity adj = MekanismUtils.getTileEntity(getWorld(), getPos().offset(side));
-            return MekanismUtils.toOptional(CapabilityUtils.getCapability(adj, Capabilities.HEAT_HANDLER_CAPABILITY, side.getOpposite())).orElse(null);
+            return MekanismUtils.toOptional(neighborCapabilityCache.getCapability(side, Capabilities.HEAT_HANDLER_CAPABILITY)).orElse(null);
         }
         return null;
     }
@@ -7,6 +7,13 @@ public interface ITileComponent {
 
     void tick();
 
+    /**
+     * @return {@code true} if this component has nothing to do while ticking, allowing the tile it belongs to to sleep.
+     */
+    default boolean isIdle() {
+        return false;
+    }
+
     void read(CompoundNBT nbtTags);
 
     void write(CompoundNBT nbtTags);
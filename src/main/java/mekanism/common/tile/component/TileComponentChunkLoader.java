@@ -1,8 +1,6 @@
 package mekanism.common.tile.component;
 
 import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
-import java.util.Comparator;
-import java.util.Iterator;
 import java.util.Objects;
 import java.util.Set;
 import javax.annotation.Nonnull;
@@ -23,7 +21,6 @@ import net.minecraft.util.math.ChunkPos;
 import net.minecraft.world.World;
 import net.minecraft.world.server.ServerChunkProvider;
 import net.minecraft.world.server.ServerWorld;
-import net.minecraft.world.server.TicketType;
 import net.minecraftforge.common.util.Constants.NBT;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -31,8 +28,6 @@ import org.apache.logging.log4j.Logger;
 public class TileComponentChunkLoader<T extends TileEntityMekanism & IChunkLoader> implements ITileComponent {
 
     private static final Logger LOGGER = LogManager.getLogger("Mekanism_TileComponentChunkLoader");
-    private static final TicketType<TileComponentChunkLoader<?>> TICKET_TYPE = TicketType.create("mekanism:chunk_loader",
-          Comparator.comparing(component -> component.tile.getPos()));
     /**
      * Not 100% sure what this is, but 2 means the ticket has the same value as a forceChunk()
      */
@@ -69,30 +64,25 @@ public class TileComponentChunkLoader<T extends TileEntityMekanism & IChunkLoade
 
     private void releaseChunkTickets(@Nonnull World world, @Nullable BlockPos pos) {
         LOGGER.debug("Attempting to remove chunk tickets. Pos: {} World: {}", pos, world.func_234923_W_().func_240901_a_());
-        ServerChunkProvider chunkProvider = (ServerChunkProvider) world.getChunkProvider();
-        Iterator<ChunkPos> chunkIt = chunkSet.iterator();
-        ChunkManager manager = ChunkManager.getInstance((ServerWorld) world);
-        while (chunkIt.hasNext()) {
-            ChunkPos chunkPos = chunkIt.next();
-            if (pos != null) {
+        if (pos != null) {
+            //Note: The manager holds the actual tickets, and only releases them at the end of the tick if no other loaders reference the chunk
+            ChunkManager manager = ChunkManager.getInstance((ServerWorld) world);
+            for (ChunkPos chunkPos : chunkSet) {
                 manager.deregisterChunk(chunkPos, pos);
             }
-            chunkProvider.releaseTicket(TICKET_TYPE, chunkPos, TICKET_DISTANCE, this);
-            chunkIt.remove();
         }
+        chunkSet.clear();
         this.hasRegistered = false;
         this.prevWorld = null;
     }
 
     private void registerChunkTickets(@Nonnull World world) {
-        ServerChunkProvider chunkProvider = (ServerChunkProvider) world.getChunkProvider();
         ChunkManager manager = ChunkManager.getInstance((ServerWorld) world);
 
         prevPos = tile.getPos();
         prevWorld = world;
 
         for (ChunkPos chunkPos : tile.getChunkSet()) {
-            chunkProvider.registerTicket(TICKET_TYPE, chunkPos, TICKET_DISTANCE, this);
             manager.registerChunk(chunkPos, prevPos);
             chunkSet.add(chunkPos);
         }
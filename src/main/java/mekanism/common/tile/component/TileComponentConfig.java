@@ -253,6 +253,11 @@ public class TileComponentConfig implements ITileComponent, ISpecificContainerTr
     public void tick() {
     }
 
+    @Override
+    public boolean isIdle() {
+        return true;
+    }
+
     @Override
     public void read(CompoundNBT nbtTags) {
         if (nbtTags.contains(NBTConstants.COMPONENT_CONFIG, NBT.TAG_COMPOUND)) {
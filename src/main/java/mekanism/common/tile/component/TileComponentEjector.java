@@ -66,6 +66,16 @@ public class TileComponentEjector implements ITileComponent, ISpecificContainerT
         return this;
     }
 
+    @Override
+    public boolean isIdle() {
+        for (ConfigInfo info : configInfo.values()) {
+            if (info.isEjecting()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     @Override
     public void tick() {
         if (!tile.isRemote()) {
@@ -120,7 +130,7 @@ public class TileComponentEjector implements ITileComponent, ISpecificContainerT
                 TransitRequest ejectMap = getEjectItemMap((InventorySlotInfo) slotInfo, outputs.iterator().next());
                 if (!ejectMap.isEmpty()) {
                     for (Direction side : outputs) {
-                        TileEntity tile = MekanismUtils.getTileEntity(this.tile.getWorld(), this.tile.getPos().offset(side));
+                        TileEntity tile = this.tile.getNeighborCapabilityCache().getNeighbor(side);
                         if (tile == null) {
                             //If the spot is not loaded just skip trying to eject to it
                             continue;
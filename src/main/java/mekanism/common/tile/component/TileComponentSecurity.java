@@ -66,6 +66,11 @@ public class TileComponentSecurity implements ITileComponent {
         }
     }
 
+    @Override
+    public boolean isIdle() {
+        return getFreq() != null || ownerUUID == null;
+    }
+
     @Override
     public void tick() {
         if (!tile.isRemote()) {
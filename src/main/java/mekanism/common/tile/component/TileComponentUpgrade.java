@@ -50,6 +50,11 @@ public class TileComponentUpgrade implements ITileComponent, ITrackableContainer
         tile.addComponent(this);
     }
 
+    @Override
+    public boolean isIdle() {
+        return upgradeSlot.isEmpty();
+    }
+
     @Override
     public void tick() {
         if (!tile.isRemote()) {
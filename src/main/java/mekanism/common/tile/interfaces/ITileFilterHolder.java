@@ -6,4 +6,10 @@ import mekanism.common.lib.HashList;
 public interface ITileFilterHolder<FILTER extends IFilter<?>> {
 
     HashList<FILTER> getFilters();
+
+    /**
+     * Called after the filters have been edited externally, for example by a player through the GUI.
+     */
+    default void onFiltersChanged() {
+    }
 }
\ No newline at end of file
@@ -1,11 +1,7 @@
 package mekanism.common.tile.machine;
 
-import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
-import java.util.Arrays;
-import java.util.Collections;
 import java.util.EnumSet;
 import java.util.List;
-import java.util.Set;
 import javax.annotation.Nonnull;
 import mekanism.api.Action;
 import mekanism.api.IConfigurable;
@@ -31,6 +27,7 @@ import mekanism.common.config.MekanismConfig;
 import mekanism.common.inventory.slot.EnergyInventorySlot;
 import mekanism.common.inventory.slot.FluidInventorySlot;
 import mekanism.common.inventory.slot.OutputInventorySlot;
+import mekanism.common.lib.math.voxel.BlockPosFrontier;
 import mekanism.common.registries.MekanismBlocks;
 import mekanism.common.registries.MekanismFluids;
 import mekanism.common.tile.base.TileEntityMekanism;
@@ -81,9 +78,9 @@ public class TileEntityElectricPump extends TileEntityMekanism implements IConfi
      */
     public int operatingTicks;
     /**
-     * The nodes that have full sources near them or in them
+     * The nodes that have full sources near them or in them. Only the nodes that are currently in the frontier are marked as visited.
      */
-    private final Set<BlockPos> recurringNodes = new ObjectOpenHashSet<>();
+    private final BlockPosFrontier recurringNodes = new BlockPosFrontier();
 
     private MachineEnergyContainer<TileEntityElectricPump> energyContainer;
     private FluidInventorySlot inputSlot;
@@ -167,24 +164,29 @@ public class TileEntityElectricPump extends TileEntityMekanism implements IConfi
             }
         }
         //Even though we can add to recurring in the above for loop, we always then exit and don't get to here if we did so
-        List<BlockPos> tempPumpList = Arrays.asList(recurringNodes.toArray(new BlockPos[0]));
-        Collections.shuffle(tempPumpList);
-        //Finally, go over the recurring list of nodes and see if there is a fluid block available to suck - if not, will iterate around the recurring block, attempt to suck,
-        //and then add the adjacent block to the recurring list
-        for (BlockPos tempPumpPos : tempPumpList) {
+        //Finally, go over the recurring nodes in order and see if there is a fluid block available to suck - if not, will iterate around the recurring block, attempt
+        // to suck, and then add the adjacent block to the recurring nodes. Each node that has nothing left to suck is removed from the frontier so the amount of work
+        // done per operation does not grow with the size of the explored area
+        int maxPumpRange = MekanismConfig.general.maxPumpRange.get();
+        while (!recurringNodes.isEmpty()) {
+            BlockPos tempPumpPos = recurringNodes.first();
             if (suck(tempPumpPos, hasFilter, false)) {
+                //Move the node to the end so that the other nodes get a chance before we come back to it
+                recurringNodes.cycleFirst();
                 return true;
             }
-            //Add all the blocks surrounding this recurring node to the recurring node list
+            //Add all the blocks surrounding this recurring node to the recurring nodes
             for (Direction orientation : EnumUtils.DIRECTIONS) {
                 BlockPos side = tempPumpPos.offset(orientation);
-                if (MekanismUtils.distanceBetween(pos, side) <= MekanismConfig.general.maxPumpRange.get()) {
+                if (!recurringNodes.isVisited(side) && MekanismUtils.distanceBetween(pos, side) <= maxPumpRange) {
                     if (suck(side, hasFilter, true)) {
                         return true;
                     }
                 }
             }
-            recurringNodes.remove(tempPumpPos);
+            //Unmark the node so that if it becomes a source again it can be found by one of its neighbors
+            recurringNodes.removeFirst();
+            recurringNodes.unmarkVisited(tempPumpPos);
         }
         return false;
     }
@@ -279,13 +281,7 @@ public class TileEntityElectricPump extends TileEntityMekanism implements IConfi
         if (!activeType.isEmpty()) {
             nbtTags.put(NBTConstants.FLUID_STORED, activeType.writeToNBT(new CompoundNBT()));
         }
-        ListNBT recurringList = new ListNBT();
-        for (BlockPos nodePos : recurringNodes) {
-            recurringList.add(NBTUtil.writeBlockPos(nodePos));
-        }
-        if (!recurringList.isEmpty()) {
-            nbtTags.put(NBTConstants.RECURRING_NODES, recurringList);
-        }
+        recurringNodes.write(nbtTags, NBTConstants.RECURRING_NODES, null);
         return nbtTags;
     }
 
@@ -295,7 +291,8 @@ public class TileEntityElectricPump extends TileEntityMekanism implements IConfi
         operatingTicks = nbtTags.getInt(NBTConstants.PROGRESS);
         suckedLastOperation = nbtTags.getBoolean(NBTConstants.SUCKED_LAST_OPERATION);
         NBTUtils.setFluidStackIfPresent(nbtTags, NBTConstants.FLUID_STORED, fluid -> activeType = fluid);
-        if (nbtTags.contains(NBTConstants.RECURRING_NODES, NBT.TAG_LIST)) {
+        if (!recurringNodes.read(nbtTags, NBTConstants.RECURRING_NODES, null) && nbtTags.contains(NBTConstants.RECURRING_NODES, NBT.TAG_LIST)) {
+            //Legacy format from before the nodes were stored packed
             ListNBT tagList = nbtTags.getList(NBTConstants.RECURRING_NODES, NBT.TAG_COMPOUND);
             for (int i = 0; i < tagList.size(); i++) {
                 recurringNodes.add(NBTUtil.readBlockPos(tagList.getCompound(i)));
@@ -1,9 +1,6 @@
 package mekanism.common.tile.machine;
 
-import it.unimi.dsi.fastutil.objects.ObjectLinkedOpenHashSet;
-import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
 import java.util.EnumSet;
-import java.util.Set;
 import javax.annotation.Nonnull;
 import mekanism.api.Action;
 import mekanism.api.IConfigurable;
@@ -30,6 +27,7 @@ import mekanism.common.inventory.container.sync.SyncableBoolean;
 import mekanism.common.inventory.slot.EnergyInventorySlot;
 import mekanism.common.inventory.slot.FluidInventorySlot;
 import mekanism.common.inventory.slot.OutputInventorySlot;
+import mekanism.common.lib.math.voxel.BlockPosFrontier;
 import mekanism.common.registries.MekanismBlocks;
 import mekanism.common.tile.base.TileEntityMekanism;
 import mekanism.common.util.MekanismUtils;
@@ -56,8 +54,11 @@ public class TileEntityFluidicPlenisher extends TileEntityMekanism implements IC
      * How many ticks it takes to run an operation.
      */
     public static final int BASE_TICKS_REQUIRED = 20;
-    private final Set<BlockPos> activeNodes = new ObjectLinkedOpenHashSet<>();
-    private final Set<BlockPos> usedNodes = new ObjectOpenHashSet<>();
+    /**
+     * The nodes that still need to be filled, every node that has been in the frontier stays marked as visited.
+     */
+    private final BlockPosFrontier activeNodes = new BlockPosFrontier();
+    private int usedNodes;
     public boolean finishedCalc;
     public int ticksRequired = BASE_TICKS_REQUIRED;
     /**
@@ -122,7 +123,7 @@ public class TileEntityFluidicPlenisher extends TileEntityMekanism implements IC
                     operatingTicks = 0;
                     if (finishedCalc) {
                         BlockPos below = getPos().down();
-                        if (canReplace(below, false, false) && canExtractBucket() &&
+                        if (canReplace(below, false) && canExtractBucket() &&
                             MekanismUtils.tryPlaceContainedLiquid(null, world, below, fluidTank.getFluid(), null)) {
                             energyContainer.extract(energyPerTick, Action.EXECUTE, AutomationType.INTERNAL);
                             fluidTank.extract(FluidAttributes.BUCKET_VOLUME, Action.EXECUTE, AutomationType.INTERNAL);
@@ -140,14 +141,14 @@ public class TileEntityFluidicPlenisher extends TileEntityMekanism implements IC
     }
 
     private void doPlenish() {
-        if (usedNodes.size() >= MekanismConfig.general.maxPlenisherNodes.get()) {
+        if (usedNodes >= MekanismConfig.general.maxPlenisherNodes.get()) {
             finishedCalc = true;
             return;
         }
         if (activeNodes.isEmpty()) {
-            if (usedNodes.isEmpty()) {
+            if (usedNodes == 0) {
                 BlockPos below = getPos().down();
-                if (!canReplace(below, true, true)) {
+                if (!canReplace(below, true)) {
                     finishedCalc = true;
                     return;
                 }
@@ -157,33 +158,28 @@ public class TileEntityFluidicPlenisher extends TileEntityMekanism implements IC
                 return;
             }
         }
-        Set<BlockPos> toRemove = new ObjectOpenHashSet<>();
-        for (BlockPos nodePos : activeNodes) {
+        //Skip past any nodes that are no longer loaded, and then fill the first loaded one and queue its unvisited neighbors
+        while (!activeNodes.isEmpty()) {
+            BlockPos nodePos = activeNodes.first();
+            activeNodes.removeFirst();
+            usedNodes++;
             if (MekanismUtils.isBlockLoaded(world, nodePos)) {
-                if (canReplace(nodePos, true, false) && canExtractBucket() &&
+                if (canReplace(nodePos, false) && canExtractBucket() &&
                     MekanismUtils.tryPlaceContainedLiquid(null, world, nodePos, fluidTank.getFluid(), null)) {
                     fluidTank.extract(FluidAttributes.BUCKET_VOLUME, Action.EXECUTE, AutomationType.INTERNAL);
                 }
                 for (Direction dir : dirs) {
                     BlockPos sidePos = nodePos.offset(dir);
-                    if (MekanismUtils.isBlockLoaded(world, sidePos) && canReplace(sidePos, true, true)) {
+                    if (!activeNodes.isVisited(sidePos) && MekanismUtils.isBlockLoaded(world, sidePos) && canReplace(sidePos, true)) {
                         activeNodes.add(sidePos);
                     }
                 }
-                toRemove.add(nodePos);
                 break;
-            } else {
-                toRemove.add(nodePos);
             }
         }
-        usedNodes.addAll(toRemove);
-        activeNodes.removeAll(toRemove);
     }
 
-    private boolean canReplace(BlockPos pos, boolean checkNodes, boolean isPathfinding) {
-        if (checkNodes && usedNodes.contains(pos)) {
-            return false;
-        }
+    private boolean canReplace(BlockPos pos, boolean isPathfinding) {
         if (world.isAirBlock(pos)) {
             return true;
         }
@@ -218,20 +214,7 @@ public class TileEntityFluidicPlenisher extends TileEntityMekanism implements IC
         super.write(nbtTags);
         nbtTags.putInt(NBTConstants.PROGRESS, operatingTicks);
         nbtTags.putBoolean(NBTConstants.FINISHED, finishedCalc);
-        if (!activeNodes.isEmpty()) {
-            ListNBT activeList = new ListNBT();
-            for (BlockPos wrapper : activeNodes) {
-                activeList.add(NBTUtil.writeBlockPos(wrapper));
-            }
-            nbtTags.put(NBTConstants.ACTIVE_NODES, activeList);
-        }
-        if (!usedNodes.isEmpty()) {
-            ListNBT usedList = new ListNBT();
-            for (BlockPos obj : usedNodes) {
-                usedList.add(NBTUtil.writeBlockPos(obj));
-            }
-            nbtTags.put(NBTConstants.USED_NODES, usedList);
-        }
+        activeNodes.write(nbtTags, NBTConstants.ACTIVE_NODES, NBTConstants.USED_NODES);
         return nbtTags;
     }
 
@@ -240,16 +223,25 @@ public class TileEntityFluidicPlenisher extends TileEntityMekanism implements IC
         super.read(state, nbtTags);
         operatingTicks = nbtTags.getInt(NBTConstants.PROGRESS);
         finishedCalc = nbtTags.getBoolean(NBTConstants.FINISHED);
-        if (nbtTags.contains(NBTConstants.ACTIVE_NODES, NBT.TAG_LIST)) {
-            ListNBT tagList = nbtTags.getList(NBTConstants.ACTIVE_NODES, NBT.TAG_COMPOUND);
-            for (int i = 0; i < tagList.size(); i++) {
-                activeNodes.add(NBTUtil.readBlockPos(tagList.getCompound(i)));
+        if (activeNodes.read(nbtTags, NBTConstants.ACTIVE_NODES, NBTConstants.USED_NODES)) {
+            //Every visited node that is not still waiting in the frontier has been used
+            usedNodes = activeNodes.getVisitedCount() - activeNodes.size();
+        } else {
+            //Legacy format from before the nodes were stored packed
+            usedNodes = 0;
+            if (nbtTags.contains(NBTConstants.USED_NODES, NBT.TAG_LIST)) {
+                ListNBT tagList = nbtTags.getList(NBTConstants.USED_NODES, NBT.TAG_COMPOUND);
+                for (int i = 0; i < tagList.size(); i++) {
+                    if (activeNodes.markVisited(NBTUtil.readBlockPos(tagList.getCompound(i)))) {
+                        usedNodes++;
+                    }
+                }
             }
-        }
-        if (nbtTags.contains(NBTConstants.USED_NODES, NBT.TAG_LIST)) {
-            ListNBT tagList = nbtTags.getList(NBTConstants.USED_NODES, NBT.TAG_COMPOUND);
-            for (int i = 0; i < tagList.size(); i++) {
-                usedNodes.add(NBTUtil.readBlockPos(tagList.getCompound(i)));
+            if (nbtTags.contains(NBTConstants.ACTIVE_NODES, NBT.TAG_LIST)) {
+                ListNBT tagList = nbtTags.getList(NBTConstants.ACTIVE_NODES, NBT.TAG_COMPOUND);
+                for (int i = 0; i < tagList.size(); i++) {
+                    activeNodes.add(NBTUtil.readBlockPos(tagList.getCompound(i)));
+                }
             }
         }
     }
@@ -257,7 +249,7 @@ public class TileEntityFluidicPlenisher extends TileEntityMekanism implements IC
     @Override
     public ActionResultType onSneakRightClick(PlayerEntity player, Direction side) {
         activeNodes.clear();
-        usedNodes.clear();
+        usedNodes = 0;
         finishedCalc = false;
         player.sendMessage(MekanismLang.LOG_FORMAT.translateColored(EnumColor.DARK_BLUE, MekanismLang.MEKANISM, EnumColor.GRAY, MekanismLang.PLENISHER_RESET),
               Util.DUMMY_UUID);
@@ -6,13 +6,16 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import mekanism.api.Action;
 import mekanism.api.IConfigCardAccess.ISpecialConfigData;
 import mekanism.api.NBTConstants;
 import mekanism.api.RelativeSide;
+import mekanism.common.CommonWorldTickHandler;
 import mekanism.common.capabilities.Capabilities;
 import mekanism.common.capabilities.holder.slot.IInventorySlotHolder;
 import mekanism.common.capabilities.holder.slot.InventorySlotHelper;
@@ -62,7 +65,17 @@ public class TileEntityOredictionificator extends TileEntityConfigurableMachine
         possibleFilters.put("forge", Arrays.asList("ingots/", "ores/", "dusts/", "nuggets/", "storage_blocks/"));
     }
 
+    //Valid names only depend on the item's tags, so share them between all oredictionificators. Slot validation means this can be used by both the client and
+    // server thread in single player
+    private static final Map<Item, Optional<ResourceLocation>> validNames = new ConcurrentHashMap<>();
+
+    public static void resetValidNames() {
+        validNames.clear();
+    }
+
     private HashList<OredictionificatorFilter> filters = new HashList<>();
+    //Result for each input item given our current filters, cleared when our filters change or tags get reloaded
+    private final Map<Item, ItemStack> cachedResults = new Object2ObjectOpenHashMap<>();
     public boolean didProcess;
 
     private InputInventorySlot inputSlot;
@@ -92,44 +105,54 @@ public class TileEntityOredictionificator extends TileEntityConfigurableMachine
     protected void onUpdateServer() {
         super.onUpdateServer();
         didProcess = false;
+        if (CommonWorldTickHandler.flushTagAndRecipeCaches) {
+            cachedResults.clear();
+        }
         if (MekanismUtils.canFunction(this) && !inputSlot.isEmpty()) {
-            ItemStack inputStack = inputSlot.getStack();
-            if (getValidName(inputStack) != null) {
-                ItemStack result = getResult(inputStack);
-                if (!result.isEmpty()) {
-                    ItemStack outputStack = outputSlot.getStack();
-                    if (outputStack.isEmpty()) {
-                        inputSlot.shrinkStack(1, Action.EXECUTE);
-                        outputSlot.setStack(result);
-                        didProcess = true;
-                    } else if (ItemHandlerHelper.canItemStacksStack(outputStack, result) && outputStack.getCount() < outputSlot.getLimit(outputStack)) {
-                        inputSlot.shrinkStack(1, Action.EXECUTE);
-                        outputSlot.growStack(1, Action.EXECUTE);
-                        didProcess = true;
-                    }
-                    markDirty(false);
+            ItemStack result = getResult(inputSlot.getStack());
+            if (!result.isEmpty()) {
+                ItemStack outputStack = outputSlot.getStack();
+                if (outputStack.isEmpty()) {
+                    inputSlot.shrinkStack(1, Action.EXECUTE);
+                    outputSlot.setStack(result);
+                    didProcess = true;
+                } else if (ItemHandlerHelper.canItemStacksStack(outputStack, result) && outputStack.getCount() < outputSlot.getLimit(outputStack)) {
+                    inputSlot.shrinkStack(1, Action.EXECUTE);
+                    outputSlot.growStack(1, Action.EXECUTE);
+                    didProcess = true;
                 }
+                markDirty(false);
             }
         }
     }
 
     @Nullable
     public ResourceLocation getValidName(ItemStack stack) {
-        //TODO: Cache this?
-        Set<ResourceLocation> tags = stack.getItem().getTags();
+        return validNames.computeIfAbsent(stack.getItem(), TileEntityOredictionificator::findValidName).orElse(null);
+    }
+
+    private static Optional<ResourceLocation> findValidName(Item item) {
+        Set<ResourceLocation> tags = item.getTags();
         for (ResourceLocation resource : tags) {
             List<String> filters = possibleFilters.getOrDefault(resource.getNamespace(), Collections.emptyList());
             String path = resource.getPath();
             for (String pre : filters) {
                 if (path.startsWith(pre)) {
-                    return resource;
+                    return Optional.of(resource);
                 }
             }
         }
-        return null;
+        return Optional.empty();
     }
 
     public ItemStack getResult(ItemStack stack) {
+        if (stack.isEmpty()) {
+            return ItemStack.EMPTY;
+        }
+        return cachedResults.computeIfAbsent(stack.getItem(), item -> findResult(stack)).copy();
+    }
+
+    private ItemStack findResult(ItemStack stack) {
         ResourceLocation resource = getValidName(stack);
         if (resource == null) {
             return ItemStack.EMPTY;
@@ -142,6 +165,11 @@ public class TileEntityOredictionificator extends TileEntityConfigurableMachine
         return ItemStack.EMPTY;
     }
 
+    @Override
+    public void onFiltersChanged() {
+        cachedResults.clear();
+    }
+
     @Nonnull
     @Override
     public CompoundNBT write(@Nonnull CompoundNBT nbtTags) {
@@ -178,6 +206,7 @@ public class TileEntityOredictionificator extends TileEntityConfigurableMachine
                     filters.add((OredictionificatorFilter) filter);
                 }
             }
+            onFiltersChanged();
         }
     }
 
@@ -207,6 +236,7 @@ public class TileEntityOredictionificator extends TileEntityConfigurableMachine
                     filters.add((OredictionificatorFilter) filter);
                 }
             }
+            onFiltersChanged();
         }
     }
 
@@ -237,6 +267,7 @@ public class TileEntityOredictionificator extends TileEntityConfigurableMachine
             } else {
                 filters = new HashList<>(value);
             }
+            cachedResults.clear();
         }));
     }
 
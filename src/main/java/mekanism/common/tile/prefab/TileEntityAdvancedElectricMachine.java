@@ -116,6 +116,12 @@ public abstract class TileEntityAdvancedElectricMachine extends TileEntityProgre
         }
     }
 
+    @Override
+    protected boolean canSleep() {
+        //If we don't have a recipe for our current input there is nothing for us to do until our contents change
+        return cachedRecipe == null;
+    }
+
     public boolean useStatisticalMechanics() {
         return false;
     }
@@ -76,6 +76,12 @@ public abstract class TileEntityElectricMachine extends TileEntityProgressMachin
         }
     }
 
+    @Override
+    protected boolean canSleep() {
+        //If we don't have a recipe for our current input there is nothing for us to do until our contents change
+        return cachedRecipe == null;
+    }
+
     @Nullable
     @Override
     public CachedRecipe<ItemStackToItemStackRecipe> getCachedRecipe(int cacheIndex) {
@@ -19,6 +19,8 @@ import mekanism.common.lib.multiblock.IStructuralMultiblock;
 import mekanism.common.lib.multiblock.MultiblockCache;
 import mekanism.common.lib.multiblock.MultiblockData;
 import mekanism.common.lib.multiblock.Structure;
+import mekanism.common.lib.perf.PerfSection;
+import mekanism.common.lib.perf.PerfTracker;
 import mekanism.common.tile.base.TileEntityMekanism;
 import mekanism.common.util.EnumUtils;
 import mekanism.common.util.MekanismUtils;
@@ -128,7 +130,10 @@ public abstract class TileEntityMultiblock<T extends MultiblockData> extends Til
                 cachedID = getMultiblock().inventoryID;
                 getManager().updateCache(this);
                 if (isMaster) {
-                    if (getMultiblock().tick(world)) {
+                    long start = PerfTracker.start();
+                    boolean needsPacket = getMultiblock().tick(world);
+                    PerfTracker.end(PerfSection.MULTIBLOCK_TICK, start);
+                    if (needsPacket) {
                         sendUpdatePacket();
                     }
                     // mark the chunk dirty each tick to make sure we save
@@ -1,16 +1,21 @@
 package mekanism.common.tile.qio;
 
 import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
-import it.unimi.dsi.fastutil.objects.Object2LongMap;
-import it.unimi.dsi.fastutil.objects.Object2LongOpenHashMap;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
-import java.util.Optional;
+import java.util.Set;
 import java.util.function.Function;
 import java.util.function.ToIntFunction;
+import javax.annotation.Nullable;
 import mekanism.api.NBTConstants;
 import mekanism.common.Mekanism;
+import mekanism.common.base.TagCache;
+import mekanism.common.content.qio.IQIOItemListener;
 import mekanism.common.content.qio.QIOFrequency;
 import mekanism.common.content.qio.QIOFrequency.QIOItemTypeData;
 import mekanism.common.content.qio.filter.QIOFilter;
@@ -21,27 +26,20 @@ import mekanism.common.inventory.container.MekanismContainer;
 import mekanism.common.inventory.container.sync.SyncableBoolean;
 import mekanism.common.lib.inventory.HashedItem;
 import mekanism.common.registries.MekanismBlocks;
-import mekanism.common.util.CapabilityUtils;
-import mekanism.common.util.InventoryUtils;
 import mekanism.common.util.ItemDataUtils;
 import mekanism.common.util.MekanismUtils;
 import mekanism.common.util.NBTUtils;
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.CompoundNBT;
-import net.minecraft.tileentity.TileEntity;
-import net.minecraftforge.items.CapabilityItemHandler;
 import net.minecraftforge.items.IItemHandler;
 
 public class TileEntityQIOExporter extends TileEntityQIOFilterHandler {
 
-    private static final int MAX_DELAY = 10;
-    private int delay = 0;
     private boolean exportWithoutFilter;
 
-    private final EfficientEjector<Object2LongMap.Entry<HashedItem>> filterEjector =
-          new EfficientEjector<>(Entry::getKey, (e) -> (int) Math.min(Integer.MAX_VALUE, e.getLongValue()));
-    private final EfficientEjector<Map.Entry<HashedItem, QIOItemTypeData>> filterlessEjector =
+    private final EfficientEjector<Map.Entry<HashedItem, QIOItemTypeData>> ejector =
           new EfficientEjector<>(Entry::getKey, (e) -> (int) Math.min(Integer.MAX_VALUE, e.getValue().getCount()));
+    private final FilterCandidates filterCandidates = new FilterCandidates();
 
     public TileEntityQIOExporter() {
         super(MekanismBlocks.QIO_EXPORTER);
@@ -52,12 +50,7 @@ public class TileEntityQIOExporter extends TileEntityQIOFilterHandler {
         super.onUpdateServer();
 
         if (MekanismUtils.canFunction(this)) {
-            if (delay > 0) {
-                delay--;
-                return;
-            }
-            tryEject();
-            delay = MAX_DELAY;
+            tickTransfer();
         }
 
         if (world.getGameTime() % 10 == 0) {
@@ -66,34 +59,42 @@ public class TileEntityQIOExporter extends TileEntityQIOFilterHandler {
         }
     }
 
-    private void tryEject() {
-        QIOFrequency freq = getQIOFrequency();
-        TileEntity back = MekanismUtils.getTileEntity(getWorld(), pos.offset(getOppositeDirection()));
-        if (freq == null || !InventoryUtils.isItemHandler(back, getDirection())) {
-            return;
-        }
-        if (!exportWithoutFilter && getFilters().isEmpty()) {
-            return;
-        }
-        if (exportWithoutFilter && getFilters().isEmpty()) {
-            filterlessEjector.eject(freq, back, freq.getItemDataMap().entrySet());
-        } else if (!getFilters().isEmpty()) {
-            filterEjector.eject(freq, back, getFilterEjectMap(back, freq).object2LongEntrySet());
-        }
+    @Override
+    protected boolean canTransfer() {
+        return exportWithoutFilter || !getFilters().isEmpty();
     }
 
-    private Object2LongMap<HashedItem> getFilterEjectMap(TileEntity back, QIOFrequency freq) {
-        Object2LongMap<HashedItem> map = new Object2LongOpenHashMap<>();
-        for (QIOFilter<?> filter : getFilters()) {
-            if (filter instanceof QIOItemStackFilter) {
-                HashedItem type = new HashedItem(((QIOItemStackFilter) filter).getItemStack());
-                map.put(type, freq.getStored(type));
-            } else if (filter instanceof QIOTagFilter) {
-                String tagName = ((QIOTagFilter) filter).getTagName();
-                map.putAll(freq.getStacksByWildcard(tagName));
-            }
+    @Override
+    protected int transfer(QIOFrequency freq, IItemHandler inventory) {
+        if (getFilters().isEmpty()) {
+            filterCandidates.unsubscribe();
+            return ejector.eject(freq, inventory, freq.getItemDataMap().entrySet());
         }
-        return map;
+        return ejector.eject(freq, inventory, filterCandidates.get(freq).entrySet());
+    }
+
+    @Override
+    protected boolean wasTransferExhaustive() {
+        return ejector.triedAll;
+    }
+
+    @Override
+    public void markDirty(boolean recheckBlockState) {
+        super.markDirty(recheckBlockState);
+        //Our filters may have changed
+        filterCandidates.invalidate();
+    }
+
+    @Override
+    public void remove() {
+        super.remove();
+        filterCandidates.unsubscribe();
+    }
+
+    @Override
+    public void onChunkUnloaded() {
+        super.onChunkUnloaded();
+        filterCandidates.unsubscribe();
     }
 
     public boolean getExportWithoutFilter() {
@@ -143,6 +144,102 @@ public class TileEntityQIOExporter extends TileEntityQIOFilterHandler {
         NBTUtils.setBooleanIfPresent(nbtTags, NBTConstants.AUTO, (value) -> exportWithoutFilter = value);
     }
 
+    /**
+     * The item types stored in our frequency that match our filters. These get compiled once and are then kept up to date as item types enter and leave the
+     * frequency, rather than being looked up again for every eject.
+     */
+    private final class FilterCandidates implements IQIOItemListener {
+
+        private final Map<HashedItem, QIOItemTypeData> candidates = new LinkedHashMap<>();
+        private final Set<HashedItem> filterTypes = new HashSet<>();
+        private final List<String> filterTags = new ArrayList<>();
+        @Nullable
+        private QIOFrequency frequency;
+        private boolean compiled;
+
+        private Map<HashedItem, QIOItemTypeData> get(QIOFrequency freq) {
+            if (freq != frequency) {
+                unsubscribe();
+                frequency = freq;
+                freq.addItemListener(this);
+            }
+            if (!compiled) {
+                compile(freq);
+            }
+            return candidates;
+        }
+
+        private void compile(QIOFrequency freq) {
+            candidates.clear();
+            filterTypes.clear();
+            filterTags.clear();
+            // grab the item data map first, as it may merge in drives that haven't been loaded yet which we will be notified about
+            Map<HashedItem, QIOItemTypeData> itemDataMap = freq.getItemDataMap();
+            for (QIOFilter<?> filter : getFilters()) {
+                if (filter instanceof QIOItemStackFilter) {
+                    HashedItem type = new HashedItem(((QIOItemStackFilter) filter).getItemStack());
+                    filterTypes.add(type);
+                    addCandidate(itemDataMap.get(type));
+                } else if (filter instanceof QIOTagFilter) {
+                    String tagName = ((QIOTagFilter) filter).getTagName();
+                    filterTags.add(tagName);
+                    for (HashedItem type : freq.getStacksByWildcard(tagName).keySet()) {
+                        addCandidate(itemDataMap.get(type));
+                    }
+                }
+            }
+            compiled = true;
+        }
+
+        private void addCandidate(@Nullable QIOItemTypeData data) {
+            if (data != null) {
+                candidates.put(data.getItemType(), data);
+            }
+        }
+
+        private boolean matches(HashedItem type) {
+            if (filterTypes.contains(type)) {
+                return true;
+            }
+            for (String filterTag : filterTags) {
+                if (TagCache.matchesItemTag(filterTag, type.getStack().getItem())) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private void invalidate() {
+            compiled = false;
+            candidates.clear();
+        }
+
+        private void unsubscribe() {
+            if (frequency != null) {
+                frequency.removeItemListener(this);
+                frequency = null;
+            }
+            invalidate();
+        }
+
+        @Override
+        public void onItemTypeAdded(QIOItemTypeData data) {
+            if (compiled && matches(data.getItemType())) {
+                candidates.put(data.getItemType(), data);
+            }
+        }
+
+        @Override
+        public void onItemTypeRemoved(HashedItem type) {
+            candidates.remove(type);
+        }
+
+        @Override
+        public void onItemTypesInvalidated() {
+            invalidate();
+        }
+    }
+
     /**
      * An efficient way to handle large (in item type) item ejections from a QIO frequency. Each eject attempt of a certain item type will use a uniform probability
      * distribution based on a predetermined 'max eject attempt' constant to see if the ejection should take place. This makes sure we will eventually eject each item
@@ -161,53 +258,51 @@ public class TileEntityQIOExporter extends TileEntityQIOFilterHandler {
 
         private final Function<T, HashedItem> typeSupplier;
         private final ToIntFunction<T> countSupplier;
+        // if the last eject considered every entry instead of randomly skipping some
+        private boolean triedAll;
 
         private EfficientEjector(Function<T, HashedItem> typeSupplier, ToIntFunction<T> countSupplier) {
             this.typeSupplier = typeSupplier;
             this.countSupplier = countSupplier;
         }
 
-        private void eject(QIOFrequency freq, TileEntity tile, Collection<T> ejectMap) {
+        private int eject(QIOFrequency freq, IItemHandler inventory, Collection<T> ejectMap) {
+            triedAll = ejectMap.size() <= MAX_EJECT_ATTEMPTS;
             if (ejectMap.isEmpty()) {
-                return;
+                return 0;
             }
             double ejectChance = Math.min(1, (double) MAX_EJECT_ATTEMPTS / ejectMap.size());
             int maxTypes = getMaxTransitTypes(), maxCount = getMaxTransitCount();
             Map<HashedItem, Integer> removed = new Object2IntOpenHashMap<>();
             int amountRemoved = 0;
 
-            Optional<IItemHandler> capability = MekanismUtils.toOptional(CapabilityUtils.getCapability(tile, CapabilityItemHandler.ITEM_HANDLER_CAPABILITY, getDirection()));
-
-            if (capability.isPresent()) {
-                IItemHandler inventory = capability.get();
-                for (T obj : ejectMap) {
-                    // break if we've reached our quota
-                    if (amountRemoved == maxCount || removed.size() == maxTypes) {
-                        break;
-                    }
-                    // skip randomly based on our eject chance
-                    if (getWorld().getRandom().nextDouble() > ejectChance) {
-                        continue;
-                    }
-                    HashedItem type = typeSupplier.apply(obj);
-                    ItemStack origInsert = type.createStack(Math.min(maxCount - amountRemoved, countSupplier.applyAsInt(obj)));
-                    ItemStack toInsert = origInsert.copy();
-                    for (int i = 0; i < inventory.getSlots(); i++) {
-                        // Check validation
-                        if (inventory.isItemValid(i, toInsert)) {
-                            // Do insert
-                            toInsert = inventory.insertItem(i, toInsert, false);
-                            // If empty, end
-                            if (toInsert.isEmpty()) {
-                                break;
-                            }
+            for (T obj : ejectMap) {
+                // break if we've reached our quota
+                if (amountRemoved == maxCount || removed.size() == maxTypes) {
+                    break;
+                }
+                // skip randomly based on our eject chance
+                if (getWorld().getRandom().nextDouble() > ejectChance) {
+                    continue;
+                }
+                HashedItem type = typeSupplier.apply(obj);
+                ItemStack origInsert = type.createStack(Math.min(maxCount - amountRemoved, countSupplier.applyAsInt(obj)));
+                ItemStack toInsert = origInsert.copy();
+                for (int i = 0; i < inventory.getSlots(); i++) {
+                    // Check validation
+                    if (inventory.isItemValid(i, toInsert)) {
+                        // Do insert
+                        toInsert = inventory.insertItem(i, toInsert, false);
+                        // If empty, end
+                        if (toInsert.isEmpty()) {
+                            break;
                         }
                     }
-                    ItemStack toUse = TransporterManager.getToUse(origInsert, toInsert);
-                    if (!toUse.isEmpty()) {
-                        amountRemoved += toUse.getCount();
-                        removed.put(type, removed.getOrDefault(type, 0) + toUse.getCount());
-                    }
+                }
+                ItemStack toUse = TransporterManager.getToUse(origInsert, toInsert);
+                if (!toUse.isEmpty()) {
+                    amountRemoved += toUse.getCount();
+                    removed.put(type, removed.getOrDefault(type, 0) + toUse.getCount());
                 }
             }
             // actually remove the items from the QIO frequency
@@ -217,6 +312,7 @@ public class TileEntityQIOExporter extends TileEntityQIOFilterHandler {
                     Mekanism.logger.error("QIO ejection item removal didn't line up with prediction: removed {}, expected {}", ret.getCount(), entry.getValue());
                 }
             }
+            return amountRemoved;
         }
     }
 }
@@ -3,12 +3,14 @@ package mekanism.common.tile.qio;
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
 import java.util.Map;
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import mekanism.api.IConfigCardAccess.ISpecialConfigData;
 import mekanism.api.NBTConstants;
 import mekanism.api.Upgrade;
 import mekanism.api.providers.IBlockProvider;
 import mekanism.common.content.filter.BaseFilter;
 import mekanism.common.content.filter.IFilter;
+import mekanism.common.content.qio.QIOFrequency;
 import mekanism.common.content.qio.filter.QIOFilter;
 import mekanism.common.inventory.container.MekanismContainer;
 import mekanism.common.inventory.container.sync.list.SyncableFilterList;
@@ -17,21 +19,160 @@ import mekanism.common.tile.interfaces.IHasSortableFilters;
 import mekanism.common.tile.interfaces.ISustainedData;
 import mekanism.common.tile.interfaces.ITileFilterHolder;
 import mekanism.common.util.ItemDataUtils;
+import mekanism.common.util.MekanismUtils;
+import net.minecraft.block.Block;
 import net.minecraft.block.BlockState;
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.CompoundNBT;
 import net.minecraft.nbt.ListNBT;
+import net.minecraft.util.math.BlockPos;
 import net.minecraftforge.common.util.Constants.NBT;
+import net.minecraftforge.common.util.LazyOptional;
+import net.minecraftforge.items.CapabilityItemHandler;
+import net.minecraftforge.items.IItemHandler;
 
-public class TileEntityQIOFilterHandler extends TileEntityQIOComponent implements ISpecialConfigData, ISustainedData, ITileFilterHolder<QIOFilter<?>>,
+public abstract class TileEntityQIOFilterHandler extends TileEntityQIOComponent implements ISpecialConfigData, ISustainedData, ITileFilterHolder<QIOFilter<?>>,
       IHasSortableFilters {
 
+    private static final int MIN_DELAY = 5;
+    private static final int BASE_DELAY = 10;
+    private static final int MAX_DELAY = 20;
+
     private HashList<QIOFilter<?>> filters = new HashList<>();
 
+    private LazyOptional<IItemHandler> backInventory = LazyOptional.empty();
+    private boolean backInventoryCached;
+
+    private int delay;
+    private int transferDelay = BASE_DELAY;
+    // state of the back inventory and frequency the last time a transfer didn't move anything
+    private boolean idle;
+    private int idleInventoryHash;
+    @Nullable
+    private QIOFrequency idleFrequency;
+    private long idleFrequencyChanges;
+
     public TileEntityQIOFilterHandler(IBlockProvider blockProvider) {
         super(blockProvider);
     }
 
+    /**
+     * Moves items between the frequency and the inventory behind us once our delay has elapsed. The delay shrinks while items are moving and grows while nothing is,
+     * and if neither the inventory nor the frequency changed since the last attempt that didn't move anything, we skip trying again.
+     */
+    protected void tickTransfer() {
+        if (delay > 0) {
+            delay--;
+            return;
+        }
+        QIOFrequency freq = getQIOFrequency();
+        IItemHandler inventory = getBackInventory();
+        if (freq == null || inventory == null || !canTransfer()) {
+            idle = false;
+            delay = transferDelay = BASE_DELAY;
+            return;
+        }
+        int inventoryHash = getInventoryHash(inventory);
+        long frequencyChanges = freq.getItemChangeCount();
+        if (!idle || inventoryHash != idleInventoryHash || freq != idleFrequency || frequencyChanges != idleFrequencyChanges) {
+            int moved = transfer(freq, inventory);
+            if (moved > 0) {
+                idle = false;
+                // speed up while items are moving, and go as fast as we can when we moved as much as we are able to
+                transferDelay = moved >= getMaxTransitCount() ? MIN_DELAY : Math.max(MIN_DELAY, transferDelay / 2);
+                delay = transferDelay;
+                return;
+            }
+            // only skip future attempts if this one actually looked at everything it could move
+            idle = wasTransferExhaustive();
+            idleInventoryHash = inventoryHash;
+            idleFrequency = freq;
+            idleFrequencyChanges = frequencyChanges;
+        }
+        transferDelay = Math.min(MAX_DELAY, transferDelay * 2);
+        delay = transferDelay;
+    }
+
+    /**
+     * @return {@code true} if our filter configuration allows transferring anything.
+     */
+    protected abstract boolean canTransfer();
+
+    /**
+     * Moves items between the given frequency and inventory.
+     *
+     * @return the number of items moved.
+     */
+    protected abstract int transfer(QIOFrequency freq, IItemHandler inventory);
+
+    /**
+     * @return {@code true} if the last call to {@link #transfer(QIOFrequency, IItemHandler)} considered everything it could have moved, so that repeating it with
+     * the same inventory and frequency contents would not move anything either.
+     */
+    protected boolean wasTransferExhaustive() {
+        return true;
+    }
+
+    /**
+     * Gets the item handler of the inventory behind us, caching it until it is invalidated, a neighbor changes, or we are marked dirty.
+     */
+    @Nullable
+    protected IItemHandler getBackInventory() {
+        if (!backInventoryCached) {
+            backInventoryCached = true;
+            LazyOptional<IItemHandler> capability = getNeighborCapabilityCache().getCapability(getOppositeDirection(), CapabilityItemHandler.ITEM_HANDLER_CAPABILITY);
+            if (capability != backInventory) {
+                backInventory = capability;
+                if (capability.isPresent()) {
+                    capability.addListener(invalidated -> {
+                        if (invalidated == backInventory) {
+                            invalidateTransferCache();
+                        }
+                    });
+                }
+            }
+        }
+        return MekanismUtils.toOptional(backInventory).orElse(null);
+    }
+
+    private void invalidateTransferCache() {
+        backInventoryCached = false;
+        idle = false;
+        delay = 0;
+        transferDelay = BASE_DELAY;
+    }
+
+    private static int getInventoryHash(IItemHandler inventory) {
+        int slots = inventory.getSlots();
+        int code = slots;
+        for (int i = 0; i < slots; i++) {
+            ItemStack stack = inventory.getStackInSlot(i);
+            if (stack.isEmpty()) {
+                code = 31 * code;
+            } else {
+                code = 31 * code + stack.getItem().hashCode();
+                code = 31 * code + stack.getCount();
+                if (stack.hasTag()) {
+                    code = 31 * code + stack.getTag().hashCode();
+                }
+            }
+        }
+        return code;
+    }
+
+    @Override
+    public void onNeighborChange(Block block, BlockPos neighborPos) {
+        super.onNeighborChange(block, neighborPos);
+        invalidateTransferCache();
+    }
+
+    @Override
+    public void markDirty(boolean recheckBlockState) {
+        super.markDirty(recheckBlockState);
+        //Our filters or facing may have changed
+        invalidateTransferCache();
+    }
+
     @Override
     public HashList<QIOFilter<?>> getFilters() {
         return filters;
@@ -2,7 +2,6 @@ package mekanism.common.tile.qio;
 
 import java.util.HashSet;
 import java.util.Map;
-import java.util.Optional;
 import java.util.Set;
 import mekanism.api.NBTConstants;
 import mekanism.common.Mekanism;
@@ -16,21 +15,16 @@ import mekanism.common.inventory.container.sync.SyncableBoolean;
 import mekanism.common.lib.inventory.Finder;
 import mekanism.common.lib.inventory.HashedItem;
 import mekanism.common.registries.MekanismBlocks;
-import mekanism.common.util.CapabilityUtils;
 import mekanism.common.util.InventoryUtils;
 import mekanism.common.util.ItemDataUtils;
 import mekanism.common.util.MekanismUtils;
 import mekanism.common.util.NBTUtils;
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.CompoundNBT;
-import net.minecraft.tileentity.TileEntity;
-import net.minecraftforge.items.CapabilityItemHandler;
 import net.minecraftforge.items.IItemHandler;
 
 public class TileEntityQIOImporter extends TileEntityQIOFilterHandler {
 
-    private static final int MAX_DELAY = 10;
-    private int delay = 0;
     private boolean importWithoutFilter = true;
 
     public TileEntityQIOImporter() {
@@ -42,12 +36,7 @@ public class TileEntityQIOImporter extends TileEntityQIOFilterHandler {
         super.onUpdateServer();
 
         if (MekanismUtils.canFunction(this)) {
-            if (delay > 0) {
-                delay--;
-                return;
-            }
-            tryImport();
-            delay = MAX_DELAY;
+            tickTransfer();
         }
 
         if (world.getGameTime() % 10 == 0) {
@@ -56,20 +45,13 @@ public class TileEntityQIOImporter extends TileEntityQIOFilterHandler {
         }
     }
 
-    private void tryImport() {
-        QIOFrequency freq = getQIOFrequency();
-        TileEntity back = MekanismUtils.getTileEntity(getWorld(), pos.offset(getOppositeDirection()));
-        if (freq == null || !InventoryUtils.isItemHandler(back, getDirection())) {
-            return;
-        }
-        if (!importWithoutFilter && getFilters().isEmpty()) {
-            return;
-        }
-        Optional<IItemHandler> capability = MekanismUtils.toOptional(CapabilityUtils.getCapability(back, CapabilityItemHandler.ITEM_HANDLER_CAPABILITY, getDirection()));
-        if (!capability.isPresent()) {
-            return;
-        }
-        IItemHandler inventory = capability.get();
+    @Override
+    protected boolean canTransfer() {
+        return importWithoutFilter || !getFilters().isEmpty();
+    }
+
+    @Override
+    protected int transfer(QIOFrequency freq, IItemHandler inventory) {
         Set<HashedItem> typesAdded = new HashSet<>();
         int maxTypes = getMaxTransitTypes(), maxCount = getMaxTransitCount(), countAdded = 0;
 
@@ -91,11 +73,12 @@ public class TileEntityQIOImporter extends TileEntityQIOFilterHandler {
             ItemStack ret = inventory.extractItem(i, used.getCount(), false);
             if (!InventoryUtils.areItemsStackable(used, ret) || used.getCount() != ret.getCount()) {
                 Mekanism.logger.error("QIO insertion error: item handler {} returned {} during simulated extraction, "
-                                      + "but returned {} during execution. This is wrong!", back, stack, ret);
+                                      + "but returned {} during execution. This is wrong!", inventory, stack, ret);
             }
             typesAdded.add(type);
             countAdded += used.getCount();
         }
+        return countAdded;
     }
 
     private boolean canFilter(ItemStack stack) {
@@ -1,14 +1,18 @@
 package mekanism.common.util;
 
 import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
+import it.unimi.dsi.fastutil.objects.ReferenceArraySet;
 import java.util.EnumSet;
 import java.util.Set;
 import mekanism.api.Action;
 import mekanism.api.energy.IEnergyContainer;
 import mekanism.api.inventory.AutomationType;
 import mekanism.api.math.FloatingLong;
+import mekanism.common.capabilities.NeighborCapabilityCache;
 import mekanism.common.content.network.distribution.EnergyAcceptorTarget;
 import mekanism.common.integration.energy.EnergyCompatUtils;
+import mekanism.common.lib.transmitter.DynamicNetwork;
+import mekanism.common.tile.base.TileEntityMekanism;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.Direction;
 
@@ -43,15 +47,30 @@ public final class CableUtils {
         }
         //Fake that we have one target given we know that no sides will overlap This allows us to have slightly better performance
         EnergyAcceptorTarget target = new EnergyAcceptorTarget();
-        EmitUtils.forEachSide(from.getWorld(), from.getPos(), sides, (acceptor, side) -> {
-            //Insert to access side
-            Direction accessSide = side.getOpposite();
-            //Collect cap
-            EnergyCompatUtils.getLazyStrictEnergyHandler(acceptor, accessSide).ifPresent(strictEnergyHandler -> target.addHandler(accessSide, strictEnergyHandler));
-        });
+        Set<DynamicNetwork<?, ?, ?>> offeredNetworks = new ReferenceArraySet<>();
+        if (from instanceof TileEntityMekanism) {
+            NeighborCapabilityCache neighbors = ((TileEntityMekanism) from).getNeighborCapabilityCache();
+            for (Direction side : sides) {
+                if (EmitUtils.isNewOutputTarget(neighbors.getNeighbor(side), side, offeredNetworks)) {
+                    EnergyCompatUtils.getLazyStrictEnergyHandler(neighbors, side).ifPresent(handler -> target.addHandler(side.getOpposite(), handler));
+                }
+            }
+        } else {
+            EmitUtils.forEachSide(from.getWorld(), from.getPos(), sides, (acceptor, side) -> {
+                if (EmitUtils.isNewOutputTarget(acceptor, side, offeredNetworks)) {
+                    //Insert to access side
+                    Direction accessSide = side.getOpposite();
+                    //Collect cap
+                    EnergyCompatUtils.getLazyStrictEnergyHandler(acceptor, accessSide).ifPresent(handler -> target.addHandler(accessSide, handler));
+                }
+            });
+        }
 
         int curHandlers = target.getHandlers().size();
-        if (curHandlers > 0) {
+        if (curHandlers == 1) {
+            //Nothing to split when there is only one acceptor, such as when the only thing we are next to is a network, so hand it everything directly
+            return energyToSend.subtract(target.getHandlers().values().iterator().next().insertEnergy(energyToSend, Action.EXECUTE));
+        } else if (curHandlers > 0) {
             Set<EnergyAcceptorTarget> targets = new ObjectOpenHashSet<>();
             targets.add(target);
             return EmitUtils.sendToAcceptors(targets, curHandlers, energyToSend);
@@ -282,18 +282,17 @@ public class ChemicalUtil {
         //Fake that we have one target given we know that no sides will overlap
         // This allows us to have slightly better performance
         ChemicalHandlerTarget<CHEMICAL, STACK, IChemicalHandler<CHEMICAL, STACK>> target = new ChemicalHandlerTarget<>(stack);
-        EmitUtils.forEachSide(from.getWorld(), from.getPos(), sides, (acceptor, side) -> {
-            //Insert to access side
-            Direction accessSide = side.getOpposite();
-            //Collect cap
-            CapabilityUtils.getCapability(acceptor, capability, accessSide).ifPresent(handler -> {
-                if (canInsert(handler, stack)) {
-                    target.addHandler(accessSide, handler);
-                }
-            });
+        EmitUtils.forEachAcceptor(from, sides, capability, (handler, side) -> {
+            if (canInsert(handler, stack)) {
+                //Insert to access side
+                target.addHandler(side.getOpposite(), handler);
+            }
         });
         int curHandlers = target.getHandlers().size();
-        if (curHandlers > 0) {
+        if (curHandlers == 1) {
+            //Nothing to split when there is only one acceptor, such as when the only thing we are next to is a network, so hand it everything directly
+            return stack.getAmount() - target.getHandlers().values().iterator().next().insertChemical(stack, Action.EXECUTE).getAmount();
+        } else if (curHandlers > 0) {
             Set<ChemicalHandlerTarget<CHEMICAL, STACK, IChemicalHandler<CHEMICAL, STACK>>> targets = new ObjectOpenHashSet<>();
             targets.add(target);
             return EmitUtils.sendToAcceptors(targets, curHandlers, stack.getAmount(), ChemicalUtil.copy(stack));
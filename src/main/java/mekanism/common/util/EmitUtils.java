@@ -1,17 +1,31 @@
 package mekanism.common.util;
 
+import it.unimi.dsi.fastutil.ints.IntArrays;
+import it.unimi.dsi.fastutil.objects.ReferenceArraySet;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.function.BiConsumer;
+import javax.annotation.Nullable;
 import mekanism.api.math.FloatingLong;
+import mekanism.common.capabilities.NeighborCapabilityCache;
+import mekanism.common.content.network.transmitter.BufferedTransmitter;
+import mekanism.common.content.network.transmitter.Transmitter;
 import mekanism.common.lib.distribution.FloatingLongSplitInfo;
 import mekanism.common.lib.distribution.IntegerSplitInfo;
 import mekanism.common.lib.distribution.LongSplitInfo;
 import mekanism.common.lib.distribution.SplitInfo;
 import mekanism.common.lib.distribution.Target;
+import mekanism.common.lib.transmitter.ConnectionType;
+import mekanism.common.lib.transmitter.DynamicNetwork;
+import mekanism.common.tile.base.TileEntityMekanism;
+import mekanism.common.tile.transmitter.TileEntityTransmitter;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.Direction;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.World;
+import net.minecraftforge.common.capabilities.Capability;
 
 public class EmitUtils {
 
@@ -33,16 +47,35 @@ public class EmitUtils {
             return splitInfo.getTotalSent();
         }
 
-        //Simulate addition, sending when the requested amount is less than the amountPer
-        // splitInfo gets adjusted to account for how much is actually sent
-        availableTargets.forEach(target -> target.sendPossible(toSend, splitInfo));
-
-        //Only run this if we changed the amountPer from when we first/last ran things
-        while (splitInfo.amountPerChanged) {
-            splitInfo.amountPerChanged = false;
-            //splitInfo gets adjusted to account for how much is actually sent,
-            // and if amountPer got changed again and we need to rerun this
-            availableTargets.forEach(target -> target.shiftNeeded(splitInfo));
+        //Simulate addition, keeping track of how much each handler wants
+        List<TARGET> targets = new ArrayList<>(totalTargets);
+        List<Direction> sides = new ArrayList<>(totalTargets);
+        List<TYPE> needs = new ArrayList<>(totalTargets);
+        for (TARGET target : availableTargets) {
+            target.simulateNeeded(toSend);
+            for (Map.Entry<Direction, TYPE> entry : target.getNeeded().entrySet()) {
+                targets.add(target);
+                sides.add(entry.getKey());
+                needs.add(entry.getValue());
+            }
+        }
+        //Sort the needs so that we can fill them smallest first in a single pass. Filling a handler that wants no more than the current share never lowers the share,
+        // so once one does not fit, none of the larger ones will either. Equal needs are kept in iteration order so that which of them get filled does not depend on
+        // how the sort happens to shuffle them
+        int[] order = new int[needs.size()];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        IntArrays.quickSort(order, (a, b) -> {
+            int compare = needs.get(a).compareTo(needs.get(b));
+            return compare == 0 ? Integer.compare(a, b) : compare;
+        });
+        for (int entry : order) {
+            if (needs.get(entry).compareTo(splitInfo.getShareAmount()) > 0) {
+                break;
+            }
+            //splitInfo gets adjusted to account for how much is actually sent
+            targets.get(entry).sendNeeded(sides.get(entry), splitInfo);
         }
 
         //Evenly distribute the remaining amount we have to give between all targets and handlers
@@ -95,6 +128,59 @@ public class EmitUtils {
         return sendToAcceptors(availableTargets, totalTargets, new FloatingLongSplitInfo(amountToSplit, totalTargets), amountToSplit);
     }
 
+    /**
+     * Helper to loop over the given sides of a tile and complete an action for each neighbor that exposes the given capability on the side facing the tile and that
+     * output should be offered to (see {@link #isNewOutputTarget(TileEntity, Direction, Set)}). Mekanism tiles look the capabilities up through their
+     * {@link NeighborCapabilityCache}.
+     *
+     * @param from       - tile to check the neighbors of
+     * @param sides      - sides to check
+     * @param capability - capability to look for
+     * @param action     - action to complete with the capability and the side of the tile it is on
+     */
+    public static <T> void forEachAcceptor(TileEntity from, Iterable<Direction> sides, Capability<T> capability, BiConsumer<T, Direction> action) {
+        Set<DynamicNetwork<?, ?, ?>> offeredNetworks = new ReferenceArraySet<>();
+        if (from instanceof TileEntityMekanism) {
+            NeighborCapabilityCache neighbors = ((TileEntityMekanism) from).getNeighborCapabilityCache();
+            for (Direction side : sides) {
+                if (isNewOutputTarget(neighbors.getNeighbor(side), side, offeredNetworks)) {
+                    neighbors.getCapability(side, capability).ifPresent(handler -> action.accept(handler, side));
+                }
+            }
+        } else {
+            forEachSide(from.getWorld(), from.getPos(), sides, (tile, side) -> {
+                if (isNewOutputTarget(tile, side, offeredNetworks)) {
+                    CapabilityUtils.getCapability(tile, capability, side.getOpposite()).ifPresent(handler -> action.accept(handler, side));
+                }
+            });
+        }
+    }
+
+    /**
+     * Checks if a tile emitting on the given side should offer its output to the neighbor on that side. Transmitters insert anything they receive straight into the
+     * buffer of their network, so a network that is next to the tile on multiple sides only gets offered the output once, and sides of transmitters that are not
+     * connected in a way that lets them accept from us get skipped instead of being included in the split.
+     *
+     * @param neighbor        - neighboring tile
+     * @param side            - side of the emitting tile the neighbor is on
+     * @param offeredNetworks - networks that have already been offered the output by other sides, gets the neighbor's network added to it
+     *
+     * @return {@code true} if the output should be offered to the neighbor.
+     */
+    public static boolean isNewOutputTarget(@Nullable TileEntity neighbor, Direction side, Set<DynamicNetwork<?, ?, ?>> offeredNetworks) {
+        if (neighbor instanceof TileEntityTransmitter) {
+            Transmitter<?, ?, ?> transmitter = ((TileEntityTransmitter) neighbor).getTransmitter();
+            if (transmitter instanceof BufferedTransmitter && transmitter.hasTransmitterNetwork()) {
+                ConnectionType connectionType = transmitter.getConnectionType(side.getOpposite());
+                if (connectionType != ConnectionType.NORMAL && connectionType != ConnectionType.PULL) {
+                    return false;
+                }
+                return offeredNetworks.add(transmitter.getTransmitterNetwork());
+            }
+        }
+        return true;
+    }
+
     /**
      * Simple helper to loop over each side of the block and complete an action for each tile found
      *
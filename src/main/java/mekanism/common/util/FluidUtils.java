@@ -54,19 +54,18 @@ public final class FluidUtils {
         //Fake that we have one target given we know that no sides will overlap
         // This allows us to have slightly better performance
         FluidHandlerTarget target = new FluidHandlerTarget(stack);
-        EmitUtils.forEachSide(from.getWorld(), from.getPos(), sides, (acceptor, side) -> {
-            //Insert to access side
-            Direction accessSide = side.getOpposite();
-            //Collect cap
-            CapabilityUtils.getCapability(acceptor, CapabilityFluidHandler.FLUID_HANDLER_CAPABILITY, accessSide).ifPresent(handler -> {
-                if (canFill(handler, toSend)) {
-                    target.addHandler(accessSide, handler);
-                }
-            });
+        EmitUtils.forEachAcceptor(from, sides, CapabilityFluidHandler.FLUID_HANDLER_CAPABILITY, (handler, side) -> {
+            if (canFill(handler, toSend)) {
+                //Insert to access side
+                target.addHandler(side.getOpposite(), handler);
+            }
         });
 
         int curHandlers = target.getHandlers().size();
-        if (curHandlers > 0) {
+        if (curHandlers == 1) {
+            //Nothing to split when there is only one acceptor, such as when the only thing we are next to is a network, so hand it everything directly
+            return target.getHandlers().values().iterator().next().fill(toSend, FluidAction.EXECUTE);
+        } else if (curHandlers > 0) {
             Set<FluidHandlerTarget> targets = new ObjectOpenHashSet<>();
             targets.add(target);
             return EmitUtils.sendToAcceptors(targets, curHandlers, stack.getAmount(), toSend);
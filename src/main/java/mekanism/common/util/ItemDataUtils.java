@@ -82,6 +82,10 @@ public final class ItemDataUtils {
         return hasDataTag(stack) ? getDataMap(stack).getList(key, NBT.TAG_COMPOUND) : new ListNBT();
     }
 
+    public static long[] getLongArray(ItemStack stack, String key) {
+        return hasDataTag(stack) ? getDataMap(stack).getLongArray(key) : new long[0];
+    }
+
     public static void setInt(ItemStack stack, String key, int i) {
         initStack(stack);
         getDataMap(stack).putInt(key, i);
@@ -122,6 +126,11 @@ public final class ItemDataUtils {
         getDataMap(stack).put(key, tag);
     }
 
+    public static void setLongArray(ItemStack stack, String key, long[] array) {
+        initStack(stack);
+        getDataMap(stack).putLongArray(key, array);
+    }
+
     private static boolean hasDataTag(ItemStack stack) {
         return stack.getTag() != null && stack.getTag().contains(NBTConstants.MEK_DATA, NBT.TAG_COMPOUND);
     }
@@ -0,0 +1,63 @@
+package mekanism.common.content.network.transmitter;
+
+import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
+import java.util.Set;
+import net.minecraft.fluid.Fluids;
+import net.minecraft.nbt.CompoundNBT;
+import net.minecraft.util.registry.Bootstrap;
+import net.minecraftforge.fluids.FluidStack;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Test the network compatibility keys of mechanical pipes")
+class MechanicalPipeCompatibilityTest {
+
+    @BeforeAll
+    static void bootstrap() {
+        Bootstrap.register();
+    }
+
+    /**
+     * Mirrors how the orphan path finder checks if a transmitter can join the transmitters it has already connected.
+     */
+    private static boolean isCompatible(Set<Object> compatibilityKeys, FluidStack buffer) {
+        Object key = MechanicalPipe.getCompatibilityKey(buffer);
+        return key == null || compatibilityKeys.contains(key);
+    }
+
+    @Test
+    @DisplayName("Test pipes holding the same fluid in different amounts are compatible")
+    void testDifferentAmounts() {
+        Set<Object> compatibilityKeys = new ObjectOpenHashSet<>();
+        compatibilityKeys.add(MechanicalPipe.getCompatibilityKey(new FluidStack(Fluids.WATER, 1_000)));
+        Assertions.assertTrue(isCompatible(compatibilityKeys, new FluidStack(Fluids.WATER, 1)));
+        Assertions.assertTrue(isCompatible(compatibilityKeys, new FluidStack(Fluids.WATER, 64_000)));
+        Assertions.assertTrue(isCompatible(compatibilityKeys, FluidStack.EMPTY));
+        Assertions.assertFalse(isCompatible(compatibilityKeys, new FluidStack(Fluids.LAVA, 1_000)));
+    }
+
+    @Test
+    @DisplayName("Test the fluid's tag is part of the key")
+    void testDifferentTags() {
+        CompoundNBT tag = new CompoundNBT();
+        tag.putString("test", "value");
+        Set<Object> compatibilityKeys = new ObjectOpenHashSet<>();
+        compatibilityKeys.add(MechanicalPipe.getCompatibilityKey(new FluidStack(Fluids.WATER, 1_000, tag)));
+        Assertions.assertTrue(isCompatible(compatibilityKeys, new FluidStack(Fluids.WATER, 500, tag.copy())));
+        Assertions.assertFalse(isCompatible(compatibilityKeys, new FluidStack(Fluids.WATER, 1_000)));
+    }
+
+    @Test
+    @DisplayName("Test the key does not change when the buffer does")
+    void testBufferChanges() {
+        FluidStack buffer = new FluidStack(Fluids.WATER, 1_000);
+        Set<Object> compatibilityKeys = new ObjectOpenHashSet<>();
+        compatibilityKeys.add(MechanicalPipe.getCompatibilityKey(buffer));
+        buffer.shrink(400);
+        Assertions.assertTrue(isCompatible(compatibilityKeys, buffer));
+        buffer.grow(10_000);
+        Assertions.assertTrue(isCompatible(compatibilityKeys, buffer));
+    }
+}
@@ -0,0 +1,144 @@
+package mekanism.common.lib.distribution;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import mekanism.api.math.FloatingLong;
+import mekanism.common.lib.distribution.target.SpecificAmountFloatingLongTarget;
+import mekanism.common.lib.distribution.target.SpecificAmountLongTarget;
+import mekanism.common.util.EmitUtils;
+import net.minecraft.util.Direction;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.quicktheories.WithQuickTheories;
+
+@DisplayName("Property based testing of CapacitySplitter against distribution via EmitUtils")
+class CapacitySplitterPropertyTest implements WithQuickTheories {
+
+    private static boolean matchesDistribution(List<Long> capacities, long amount) {
+        List<SpecificAmountLongTarget> targets = new ArrayList<>();
+        long[] capacityArray = new long[capacities.size()];
+        for (int i = 0; i < capacityArray.length; i++) {
+            capacityArray[i] = capacities.get(i);
+            SpecificAmountLongTarget target = new SpecificAmountLongTarget(capacityArray[i]);
+            target.addHandler(Direction.NORTH, i);
+            targets.add(target);
+        }
+        //Keep the iteration order the same as the order of the capacities so that the remainder ends up going to the same targets
+        EmitUtils.sendToAcceptors(new LinkedHashSet<>(targets), targets.size(), amount, amount);
+        long[] shares = CapacitySplitter.split(amount, capacityArray);
+        for (int i = 0; i < shares.length; i++) {
+            if (shares[i] != targets.get(i).getAccepted()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean matchesDistribution(List<FloatingLong> capacities, FloatingLong amount) {
+        List<SpecificAmountFloatingLongTarget> targets = new ArrayList<>();
+        FloatingLong[] capacityArray = capacities.toArray(new FloatingLong[0]);
+        for (int i = 0; i < capacityArray.length; i++) {
+            SpecificAmountFloatingLongTarget target = new SpecificAmountFloatingLongTarget(capacityArray[i]);
+            target.addHandler(Direction.NORTH, i);
+            targets.add(target);
+        }
+        EmitUtils.sendToAcceptors(new LinkedHashSet<>(targets), targets.size(), amount);
+        FloatingLong[] shares = CapacitySplitter.split(amount, capacityArray);
+        for (int i = 0; i < shares.length; i++) {
+            if (!shares[i].equals(targets.get(i).getAccepted())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static FloatingLong createFloatingLong(long value, int decimal) {
+        return FloatingLong.createConst(value, (short) decimal);
+    }
+
+    private static List<FloatingLong> createFloatingLongs(List<Long> values, List<Integer> decimals) {
+        List<FloatingLong> floatingLongs = new ArrayList<>(values.size());
+        for (int i = 0; i < values.size(); i++) {
+            floatingLongs.add(createFloatingLong(values.get(i), decimals.get(i % decimals.size())));
+        }
+        return floatingLongs;
+    }
+
+    private static long sum(List<Long> values) {
+        long sum = 0;
+        for (long value : values) {
+            sum += value;
+        }
+        return sum;
+    }
+
+    @Test
+    @DisplayName("Test long split with equal capacities")
+    void testLongEqualCapacities() {
+        qt().forAll(
+              longs().between(0, 1_000),
+              integers().between(1, 100),
+              longs().between(0, 200_000)
+        ).check((capacity, targets, amount) -> matchesDistribution(Collections.nCopies(targets, capacity), amount));
+    }
+
+    @Test
+    @DisplayName("Test long split with mixed capacities")
+    void testLongMixedCapacities() {
+        qt().forAll(
+              lists().of(longs().between(0, 1_000)).ofSizeBetween(1, 100),
+              longs().between(0, 200_000)
+        ).check((capacities, amount) -> matchesDistribution(capacities, amount));
+    }
+
+    @Test
+    @DisplayName("Test long split with more than the total capacity")
+    void testLongAboveTotalCapacity() {
+        qt().forAll(
+              lists().of(longs().between(0, 1_000)).ofSizeBetween(1, 100),
+              longs().between(0, 100_000)
+        ).check((capacities, extra) -> matchesDistribution(capacities, sum(capacities) + extra));
+    }
+
+    @Test
+    @DisplayName("Test FloatingLong split with equal capacities")
+    void testFloatingLongEqualCapacities() {
+        qt().forAll(
+              longs().between(0, 1_000),
+              integers().between(0, 9_999),
+              integers().between(1, 100),
+              longs().between(0, 200_000)
+        ).check((value, decimal, targets, amount) -> matchesDistribution(Collections.nCopies(targets, createFloatingLong(value, decimal)),
+              FloatingLong.createConst(amount)));
+    }
+
+    @Test
+    @DisplayName("Test FloatingLong split with mixed capacities")
+    void testFloatingLongMixedCapacities() {
+        qt().forAll(
+              lists().of(longs().between(0, 1_000)).ofSizeBetween(1, 100),
+              lists().of(integers().between(0, 9_999)).ofSizeBetween(1, 100),
+              longs().between(0, 200_000),
+              integers().between(0, 9_999)
+        ).check((values, decimals, amount, amountDecimal) -> matchesDistribution(createFloatingLongs(values, decimals), createFloatingLong(amount, amountDecimal)));
+    }
+
+    @Test
+    @DisplayName("Test FloatingLong split with more than the total capacity")
+    void testFloatingLongAboveTotalCapacity() {
+        qt().forAll(
+              lists().of(longs().between(0, 1_000)).ofSizeBetween(1, 100),
+              lists().of(integers().between(0, 9_999)).ofSizeBetween(1, 100),
+              longs().between(0, 100_000)
+        ).check((values, decimals, extra) -> {
+            List<FloatingLong> capacities = createFloatingLongs(values, decimals);
+            FloatingLong amount = FloatingLong.createConst(extra);
+            for (FloatingLong capacity : capacities) {
+                amount = amount.add(capacity);
+            }
+            return matchesDistribution(capacities, amount);
+        });
+    }
+}
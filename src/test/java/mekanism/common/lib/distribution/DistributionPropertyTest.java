@@ -1,8 +1,15 @@
 package mekanism.common.lib.distribution;
 
 import com.mojang.datafixers.util.Pair;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Set;
+import mekanism.common.lib.distribution.target.SpecificAmountIntegerTarget;
 import mekanism.common.util.EmitUtils;
+import net.minecraft.util.Direction;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.quicktheories.WithQuickTheories;
@@ -45,6 +52,94 @@ class DistributionPropertyTest implements WithQuickTheories {
         });
     }
 
+    @Test
+    @DisplayName("Test sorted distribution matches iterative distribution")
+    void testSortedMatchesIterative() {
+        //Capacity of -1 represents a target that accepts anything
+        qt().forAll(
+              lists().of(integers().between(-1, 100)).ofSizeBetween(1, 200),
+              integers().between(0, 10_000)
+        ).check((capacities, toSend) -> {
+            List<SpecificAmountIntegerTarget> sorted = createTargets(capacities);
+            List<SpecificAmountIntegerTarget> iterative = createTargets(capacities);
+            //Keep the iteration order the same for both so that the remainder ends up going to the same targets
+            int sortedSent = EmitUtils.sendToAcceptors(new LinkedHashSet<>(sorted), sorted.size(), toSend, toSend);
+            //Use the current split info so that this only checks the sorted pass against the loop it replaced
+            int iterativeSent = sendIterative(new LinkedHashSet<>(iterative), toSend, new IntegerSplitInfo(toSend, iterative.size()));
+            if (sortedSent != iterativeSent) {
+                return false;
+            }
+            for (int i = 0; i < sorted.size(); i++) {
+                if (sorted.get(i).getAccepted() != iterative.get(i).getAccepted()) {
+                    return false;
+                }
+            }
+            return true;
+        });
+    }
+
+    @Test
+    @DisplayName("Test sorted distribution sends at least as much as the original distribution")
+    void testSortedSendsAtLeastOriginal() {
+        qt().forAll(
+              lists().of(integers().between(-1, 100)).ofSizeBetween(1, 200),
+              integers().between(0, 10_000)
+        ).check((capacities, toSend) -> {
+            List<SpecificAmountIntegerTarget> sorted = createTargets(capacities);
+            List<SpecificAmountIntegerTarget> original = createTargets(capacities);
+            int sortedSent = EmitUtils.sendToAcceptors(new LinkedHashSet<>(sorted), sorted.size(), toSend, toSend);
+            int originalSent = sendIterative(new LinkedHashSet<>(original), toSend, new LegacyIntegerSplitInfo(toSend, original.size()));
+            return sortedSent >= originalSent;
+        });
+    }
+
+    @Test
+    @DisplayName("Test the share is recalculated when a target accepts exactly the share")
+    void testExactShareRecalculates() {
+        List<Integer> capacities = Arrays.asList(3, 4, 4);
+        int toSend = 11;
+        List<SpecificAmountIntegerTarget> sorted = createTargets(capacities);
+        List<SpecificAmountIntegerTarget> original = createTargets(capacities);
+        //The first target takes exactly the share of 3, which raises the share of the other two to 4
+        Assertions.assertEquals(toSend, EmitUtils.sendToAcceptors(new LinkedHashSet<>(sorted), sorted.size(), toSend, toSend));
+        for (int i = 0; i < capacities.size(); i++) {
+            Assertions.assertEquals((int) capacities.get(i), sorted.get(i).getAccepted());
+        }
+        //Without recalculating, the other two only got offered the old share of 3 and part of the amount was left unsent
+        Assertions.assertEquals(9, sendIterative(new LinkedHashSet<>(original), toSend, new LegacyIntegerSplitInfo(toSend, original.size())));
+    }
+
+    private static List<SpecificAmountIntegerTarget> createTargets(List<Integer> capacities) {
+        List<SpecificAmountIntegerTarget> targets = new ArrayList<>();
+        for (int i = 0; i < capacities.size(); i++) {
+            int capacity = capacities.get(i);
+            SpecificAmountIntegerTarget target = new SpecificAmountIntegerTarget(capacity == -1 ? Integer.MAX_VALUE : capacity);
+            target.addHandler(Direction.NORTH, i);
+            targets.add(target);
+        }
+        return targets;
+    }
+
+    /**
+     * Reference implementation that repeatedly rechecks every target while the share keeps changing.
+     */
+    private static int sendIterative(Set<SpecificAmountIntegerTarget> availableTargets, int toSend, SplitInfo<Integer> splitInfo) {
+        availableTargets.forEach(target -> target.simulateNeeded(toSend));
+        do {
+            splitInfo.amountPerChanged = false;
+            for (SpecificAmountIntegerTarget target : availableTargets) {
+                //Copy the sides as sending removes them from the needed map
+                for (Direction side : new ArrayList<>(target.getNeeded().keySet())) {
+                    if (target.getNeeded().get(side) <= splitInfo.getShareAmount()) {
+                        target.sendNeeded(side, splitInfo);
+                    }
+                }
+            }
+        } while (splitInfo.amountPerChanged);
+        availableTargets.forEach(target -> target.sendRemainingSplit(splitInfo));
+        return splitInfo.getTotalSent();
+    }
+
     @Test
     @DisplayName("Test distribution no infinite")
     void testDistributionNoInfinite() {
@@ -0,0 +1,49 @@
+package mekanism.common.lib.distribution;
+
+/**
+ * Copy of {@link IntegerSplitInfo} from before it always recalculated the share, used as the reference for what the distribution used to do.
+ */
+class LegacyIntegerSplitInfo extends SplitInfo<Integer> {
+
+    private int amountToSplit;
+    private int amountPerTarget;
+    private int sentSoFar;
+
+    LegacyIntegerSplitInfo(int amountToSplit, int totalTargets) {
+        super(totalTargets);
+        this.amountToSplit = amountToSplit;
+        amountPerTarget = toSplitAmong == 0 ? 0 : amountToSplit / toSplitAmong;
+    }
+
+    @Override
+    public void send(Integer amountNeeded) {
+        //If we are giving it, then lower the amount we are checking/splitting
+        amountToSplit -= amountNeeded;
+        sentSoFar += amountNeeded;
+        toSplitAmong--;
+        //Only recalculate it if it is not willing to accept/doesn't want the
+        // full per side split
+        if (amountNeeded != amountPerTarget && toSplitAmong != 0) {
+            int amountPerLast = amountPerTarget;
+            amountPerTarget = amountToSplit / toSplitAmong;
+            if (!amountPerChanged && amountPerTarget != amountPerLast) {
+                amountPerChanged = true;
+            }
+        }
+    }
+
+    @Override
+    public Integer getShareAmount() {
+        return amountPerTarget;
+    }
+
+    @Override
+    public Integer getRemainderAmount() {
+        return toSplitAmong == 0 ? amountPerTarget : amountPerTarget + (amountToSplit % toSplitAmong);
+    }
+
+    @Override
+    public Integer getTotalSent() {
+        return sentSoFar;
+    }
+}
@@ -0,0 +1,33 @@
+package mekanism.common.lib.distribution.target;
+
+import mekanism.api.math.FloatingLong;
+import mekanism.common.lib.distribution.SplitInfo;
+import mekanism.common.lib.distribution.Target;
+
+public class SpecificAmountFloatingLongTarget extends Target<Integer, FloatingLong, FloatingLong> {
+
+    private FloatingLong toAccept;
+    private FloatingLong accepted = FloatingLong.ZERO;
+
+    public SpecificAmountFloatingLongTarget(FloatingLong toAccept) {
+        this.toAccept = toAccept.copy();
+    }
+
+    @Override
+    protected void acceptAmount(Integer handler, SplitInfo<FloatingLong> splitInfo, FloatingLong amount) {
+        FloatingLong accepting = toAccept.min(amount).copy();
+        //Always mark it as sent, even if nothing was accepted, like actual handlers do
+        splitInfo.send(accepting);
+        toAccept = toAccept.minusEqual(accepting);
+        accepted = accepted.plusEqual(accepting);
+    }
+
+    public FloatingLong getAccepted() {
+        return accepted;
+    }
+
+    @Override
+    protected FloatingLong simulate(Integer handler, FloatingLong toFill) {
+        return toAccept.min(toFill).copy();
+    }
+}
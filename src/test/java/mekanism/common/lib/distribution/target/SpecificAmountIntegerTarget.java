@@ -6,6 +6,7 @@ import mekanism.common.lib.distribution.Target;
 public class SpecificAmountIntegerTarget extends Target<Integer, Integer, Integer> {
 
     private int toAccept;
+    private int accepted;
 
     public SpecificAmountIntegerTarget(int toAccept) {
         this.toAccept = toAccept;
@@ -17,9 +18,14 @@ public class SpecificAmountIntegerTarget extends Target<Integer, Integer, Intege
         if (accepting > 0) {
             splitInfo.send(accepting);
             toAccept -= accepting;
+            accepted += accepting;
         }
     }
 
+    public int getAccepted() {
+        return accepted;
+    }
+
     @Override
     protected Integer simulate(Integer handler, Integer toFill) {
         return Math.min(toAccept, toFill);
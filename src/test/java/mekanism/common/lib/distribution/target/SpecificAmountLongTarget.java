@@ -0,0 +1,32 @@
+package mekanism.common.lib.distribution.target;
+
+import mekanism.common.lib.distribution.SplitInfo;
+import mekanism.common.lib.distribution.Target;
+
+public class SpecificAmountLongTarget extends Target<Integer, Long, Long> {
+
+    private long toAccept;
+    private long accepted;
+
+    public SpecificAmountLongTarget(long toAccept) {
+        this.toAccept = toAccept;
+    }
+
+    @Override
+    protected void acceptAmount(Integer handler, SplitInfo<Long> splitInfo, Long amount) {
+        long accepting = Math.min(toAccept, amount);
+        //Always mark it as sent, even if nothing was accepted, like actual handlers do
+        splitInfo.send(accepting);
+        toAccept -= accepting;
+        accepted += accepting;
+    }
+
+    public long getAccepted() {
+        return accepted;
+    }
+
+    @Override
+    protected Long simulate(Integer handler, Long toFill) {
+        return Math.min(toAccept, toFill);
+    }
+}
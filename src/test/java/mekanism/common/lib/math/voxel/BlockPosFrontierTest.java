@@ -0,0 +1,124 @@
+package mekanism.common.lib.math.voxel;
+
+import java.util.Arrays;
+import java.util.List;
+import net.minecraft.nbt.CompoundNBT;
+import net.minecraft.util.math.BlockPos;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Test BlockPosFrontier implementation")
+class BlockPosFrontierTest {
+
+    private static final String FRONTIER_KEY = "frontier";
+    private static final String VISITED_KEY = "visited";
+
+    private static final List<BlockPos> POSITIONS = Arrays.asList(
+          new BlockPos(0, 0, 0),
+          new BlockPos(-1, -1, -1),
+          new BlockPos(15, 0, 0),
+          new BlockPos(-16, 0, 0),
+          new BlockPos(-17, -64, 5),
+          new BlockPos(3, 255, -16),
+          new BlockPos(3, 1_000, 3),
+          new BlockPos(-30_000_000, 2_047, 30_000_000)
+    );
+
+    @Test
+    @DisplayName("Test marking positions with negative and high coordinates")
+    void testMarkVisited() {
+        BlockPosFrontier frontier = new BlockPosFrontier();
+        for (BlockPos pos : POSITIONS) {
+            Assertions.assertFalse(frontier.isVisited(pos), () -> pos + " visited before being marked");
+            Assertions.assertTrue(frontier.markVisited(pos));
+        }
+        Assertions.assertEquals(POSITIONS.size(), frontier.getVisitedCount());
+        for (BlockPos pos : POSITIONS) {
+            Assertions.assertTrue(frontier.isVisited(pos));
+            Assertions.assertFalse(frontier.markVisited(pos), () -> pos + " marked twice");
+        }
+        //Neighbors across the section borders and the same spot in other sections should not have been marked
+        Assertions.assertFalse(frontier.isVisited(new BlockPos(16, 0, 0)));
+        Assertions.assertFalse(frontier.isVisited(new BlockPos(-1, 0, 0)));
+        Assertions.assertFalse(frontier.isVisited(new BlockPos(0, -16, 0)));
+        Assertions.assertFalse(frontier.isVisited(new BlockPos(-1, 15, -1)));
+        Assertions.assertFalse(frontier.isVisited(new BlockPos(3, 239, -16)));
+        Assertions.assertFalse(frontier.isVisited(new BlockPos(-17, 192, 5)));
+        Assertions.assertEquals(POSITIONS.size(), frontier.getVisitedCount());
+    }
+
+    @Test
+    @DisplayName("Test unmarking positions drops empty sections")
+    void testUnmarkVisited() {
+        BlockPosFrontier frontier = new BlockPosFrontier();
+        BlockPos first = new BlockPos(-1, 300, -1);
+        BlockPos second = new BlockPos(-16, 288, -16);
+        frontier.markVisited(first);
+        frontier.markVisited(second);
+        frontier.unmarkVisited(first);
+        Assertions.assertFalse(frontier.isVisited(first));
+        Assertions.assertTrue(frontier.isVisited(second));
+        Assertions.assertEquals(1, frontier.getVisitedCount());
+        //Unmarking something that is not marked should not change anything
+        frontier.unmarkVisited(first);
+        frontier.unmarkVisited(new BlockPos(100, -100, 100));
+        Assertions.assertEquals(1, frontier.getVisitedCount());
+        frontier.unmarkVisited(second);
+        Assertions.assertEquals(0, frontier.getVisitedCount());
+        //Once the section is empty it should have been dropped so there is nothing left to write
+        CompoundNBT nbt = new CompoundNBT();
+        frontier.write(nbt, FRONTIER_KEY, VISITED_KEY);
+        Assertions.assertFalse(nbt.contains(VISITED_KEY));
+        Assertions.assertTrue(frontier.markVisited(second));
+    }
+
+    @Test
+    @DisplayName("Test writing and reading keeps the queue order and visited positions")
+    void testRoundTrip() {
+        BlockPosFrontier frontier = new BlockPosFrontier();
+        for (BlockPos pos : POSITIONS) {
+            frontier.add(pos);
+        }
+        //Cycle and remove some so that the queue order no longer matches the order positions were added in
+        frontier.cycleFirst();
+        frontier.removeFirst();
+        BlockPos visitedOnly = new BlockPos(7, -40, -7);
+        frontier.markVisited(visitedOnly);
+        CompoundNBT nbt = new CompoundNBT();
+        frontier.write(nbt, FRONTIER_KEY, VISITED_KEY);
+
+        BlockPosFrontier read = new BlockPosFrontier();
+        Assertions.assertTrue(read.read(nbt, FRONTIER_KEY, VISITED_KEY));
+        Assertions.assertEquals(frontier.size(), read.size());
+        Assertions.assertEquals(frontier.getVisitedCount(), read.getVisitedCount());
+        Assertions.assertTrue(read.isVisited(visitedOnly));
+        //The removed position was left marked as visited
+        Assertions.assertTrue(read.isVisited(POSITIONS.get(1)));
+        while (!frontier.isEmpty()) {
+            Assertions.assertEquals(frontier.first(), read.first());
+            frontier.removeFirst();
+            read.removeFirst();
+        }
+        Assertions.assertTrue(read.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Test reading without visited positions only marks the frontier")
+    void testRoundTripWithoutVisited() {
+        BlockPosFrontier frontier = new BlockPosFrontier();
+        for (BlockPos pos : POSITIONS) {
+            frontier.add(pos);
+        }
+        frontier.removeFirst();
+        CompoundNBT nbt = new CompoundNBT();
+        frontier.write(nbt, FRONTIER_KEY, null);
+
+        BlockPosFrontier read = new BlockPosFrontier();
+        Assertions.assertTrue(read.read(nbt, FRONTIER_KEY, VISITED_KEY));
+        Assertions.assertEquals(POSITIONS.size() - 1, read.size());
+        Assertions.assertEquals(POSITIONS.size() - 1, read.getVisitedCount());
+        Assertions.assertFalse(read.isVisited(POSITIONS.get(0)));
+        Assertions.assertFalse(read.read(new CompoundNBT(), FRONTIER_KEY, VISITED_KEY));
+    }
+}